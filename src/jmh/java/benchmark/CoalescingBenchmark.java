@@ -0,0 +1,88 @@
+package benchmark;
+
+import application.port.RateSnapshotRepository;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+import infrastructure.repository.CoalescingExchangeRateRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class CoalescingBenchmark {
+    @Param({"2"})
+    public int upstreamLatencyMillis;
+
+    @Param({"1"})
+    public int windowMillis;
+
+    private List<Currency> currencies;
+    private RateSnapshot snapshot;
+    private LongAdder directCalls;
+    private LongAdder directRequests;
+    private RateSnapshotRepository upstream;
+    private CoalescingExchangeRateRepository coalescing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        currencies = Fixtures.currencies(160);
+        String[] codes = currencies.stream().map(Currency::code).toArray(String[]::new);
+        snapshot = new RateSnapshot(LocalDate.now(), "USD", codes, Fixtures.rates(codes.length, 3));
+        directCalls = new LongAdder();
+        directRequests = new LongAdder();
+        upstream = base -> {
+            directCalls.increment();
+            sleep(upstreamLatencyMillis);
+            return snapshot;
+        };
+        coalescing = new CoalescingExchangeRateRepository(upstream, Duration.ofMillis(windowMillis));
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%ncoalesced: requests=%d upstreamCalls=%d%n",
+                coalescing.requests(), coalescing.upstreamCalls());
+        coalescing.close();
+    }
+
+    @Benchmark
+    public ExchangeRate direct() {
+        directRequests.increment();
+        Currency to = currencies.get(ThreadLocalRandom.current().nextInt(currencies.size()));
+        return upstream.getSnapshot(currencies.get(0)).rate(currencies.get(0), to);
+    }
+
+    @Benchmark
+    public ExchangeRate coalesced() {
+        Currency from = currencies.get(ThreadLocalRandom.current().nextInt(4));
+        Currency to = currencies.get(ThreadLocalRandom.current().nextInt(currencies.size()));
+        return coalescing.getExchangeRate(from, to);
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
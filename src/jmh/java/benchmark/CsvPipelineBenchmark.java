@@ -0,0 +1,68 @@
+package benchmark;
+
+import application.usecase.ExchangeMoneyUseCase;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.RateSnapshot;
+import infrastructure.csv.CsvConversionPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CsvPipelineBenchmark {
+    private static final int ROWS = 10_000_000;
+
+    private CsvConversionPipeline pipeline;
+    private Path input;
+    private Path output;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Currency> currencies = Fixtures.currencies(160);
+        String[] codes = currencies.stream().map(Currency::code).toArray(String[]::new);
+        RateSnapshot snapshot = new RateSnapshot(LocalDate.now(), "USD", codes, Fixtures.rates(codes.length, 7));
+        CurrencyRegistry registry = new CurrencyRegistry(currencies);
+        pipeline = new CsvConversionPipeline(new ExchangeMoneyUseCase(snapshot::rate), registry, currencies.get(1));
+
+        input = Files.createTempFile("ledger", ".csv");
+        output = Files.createTempFile("ledger-converted", ".csv");
+        Random random = new Random(17);
+        try (BufferedWriter writer = Files.newBufferedWriter(input)) {
+            writer.write("id,date,amount,currency,description\n");
+            for (int i = 0; i < ROWS; i++) {
+                writer.write(i + ",2025-01-01," + random.nextInt(1_000_000) + "." + (10 + random.nextInt(90))
+                        + "," + codes[random.nextInt(codes.length)] + ",payment " + i + "\n");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long convertFile() throws IOException {
+        return pipeline.run(input, output);
+    }
+}
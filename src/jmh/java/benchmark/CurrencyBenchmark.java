@@ -0,0 +1,66 @@
+package benchmark;
+
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CurrencyBenchmark {
+    private Currency usd;
+    private Currency otherUsd;
+    private Currency eur;
+    private List<Currency> currencies;
+    private CurrencyRegistry registry;
+    private String lookupCode;
+
+    @Setup
+    public void setUp() {
+        usd = new Currency("USD", "United States Dollar");
+        otherUsd = new Currency("usd", "United States Dollar");
+        eur = new Currency("EUR", "Euro");
+        currencies = Fixtures.currencies(160);
+        registry = new CurrencyRegistry(currencies);
+        lookupCode = currencies.get(currencies.size() - 1).code().toLowerCase();
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return usd.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsSameCode() {
+        return usd.equals(otherUsd);
+    }
+
+    @Benchmark
+    public boolean equalsDifferentCode() {
+        return usd.equals(eur);
+    }
+
+    @Benchmark
+    public Currency linearScanLookup() {
+        for (Currency currency : currencies) {
+            if (currency.code().equalsIgnoreCase(lookupCode)) {
+                return currency;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Currency registryLookup() {
+        return registry.find(lookupCode);
+    }
+}
@@ -0,0 +1,83 @@
+package benchmark;
+
+import com.google.gson.Gson;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+import infrastructure.api.RateJsonDecoder;
+import infrastructure.api.dto.CurrencyListResponse;
+import infrastructure.api.dto.ExchangeRateResponse;
+import infrastructure.api.dto.LatestRatesResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DecodingBenchmark {
+    private Gson gson;
+    private RateJsonDecoder decoder;
+    private Currency usd;
+    private Currency eur;
+    private byte[] pair;
+    private byte[] table;
+    private byte[] codes;
+
+    @Setup
+    public void setUp() {
+        gson = new Gson();
+        decoder = new RateJsonDecoder();
+        usd = new Currency("USD", "United States Dollar");
+        eur = new Currency("EUR", "Euro");
+        List<Currency> currencies = Fixtures.currencies(162);
+        pair = Fixtures.pairJson();
+        table = Fixtures.tableJson(currencies, Fixtures.rates(currencies.size(), 42));
+        codes = Fixtures.currenciesJson(currencies);
+    }
+
+    @Benchmark
+    public double gsonPair() {
+        ExchangeRateResponse response = gson.fromJson(new String(pair), ExchangeRateResponse.class);
+        return response.getConversionRate();
+    }
+
+    @Benchmark
+    public ExchangeRate streamingPair() throws IOException {
+        return decoder.decodePair(new ByteArrayInputStream(pair), usd, eur);
+    }
+
+    @Benchmark
+    public int gsonTable() {
+        LatestRatesResponse response = gson.fromJson(new String(table), LatestRatesResponse.class);
+        return response.getConversionRates().size();
+    }
+
+    @Benchmark
+    public RateSnapshot streamingTable() throws IOException {
+        return decoder.decodeTable(new ByteArrayInputStream(table), usd);
+    }
+
+    @Benchmark
+    public List<Currency> gsonCurrencies() {
+        CurrencyListResponse response = gson.fromJson(new String(codes), CurrencyListResponse.class);
+        return response.getSupportedCodes().stream()
+                .map(tuple -> new Currency(tuple.get(0), tuple.get(1)))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Currency> streamingCurrencies() throws IOException {
+        return decoder.decodeCurrencies(new ByteArrayInputStream(codes));
+    }
+}
@@ -0,0 +1,62 @@
+package benchmark;
+
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.service.ExchangeRateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExchangeRateServiceBenchmark {
+    private Currency usd;
+    private Currency eur;
+    private ExchangeRateService service;
+    private Map<String, ExchangeRate> stringKeyedCache;
+
+    @Setup
+    public void setUp() {
+        usd = new Currency("USD", "United States Dollar");
+        eur = new Currency("EUR", "Euro");
+        ExchangeRate rate = new ExchangeRate(LocalDate.now(), usd, eur, 0.9612);
+        service = new ExchangeRateService((from, to) -> rate);
+        service.getRate(usd, eur);
+        stringKeyedCache = new HashMap<>();
+        stringKeyedCache.put(usd.code() + "-" + eur.code(), rate);
+    }
+
+    @Benchmark
+    public ExchangeRate cacheHit() {
+        return service.getRate(usd, eur);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ExchangeRate cacheHitContended() {
+        return service.getRate(usd, eur);
+    }
+
+    @Benchmark
+    public ExchangeRate stringKeyHashMapBaseline() {
+        String key = usd.code() + "-" + eur.code();
+        if (stringKeyedCache.containsKey(key)) {
+            ExchangeRate cached = stringKeyedCache.get(key);
+            if (cached.date().equals(LocalDate.now())) {
+                return cached;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package benchmark;
+
+import domain.model.Currency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static List<Currency> currencies(int count) {
+        List<Currency> currencies = new ArrayList<>(count);
+        Set<String> codes = new HashSet<>();
+        currencies.add(new Currency("USD", "United States Dollar"));
+        currencies.add(new Currency("EUR", "Euro"));
+        currencies.add(new Currency("JPY", "Japanese Yen"));
+        currencies.add(new Currency("BHD", "Bahraini Dinar"));
+        currencies.forEach(currency -> codes.add(currency.code()));
+        for (int i = 0; currencies.size() < count; i++) {
+            String code = "" + (char) ('A' + i / 676 % 26) + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+            if (codes.add(code)) {
+                currencies.add(new Currency(code, "Currency " + code));
+            }
+        }
+        return currencies;
+    }
+
+    static double[] rates(int count, long seed) {
+        Random random = new Random(seed);
+        double[] rates = new double[count];
+        rates[0] = 1.0;
+        for (int i = 1; i < count; i++) {
+            rates[i] = Math.round((0.01 + random.nextDouble() * 200) * 10_000) / 10_000.0;
+        }
+        return rates;
+    }
+
+    static byte[] pairJson() {
+        return ("{\"result\":\"success\",\"documentation\":\"https://www.exchangerate-api.com/docs\","
+                + "\"terms_of_use\":\"https://www.exchangerate-api.com/terms\","
+                + "\"time_last_update_unix\":1735689601,"
+                + "\"time_last_update_utc\":\"Wed, 01 Jan 2025 00:00:01 +0000\","
+                + "\"time_next_update_unix\":1735776001,"
+                + "\"time_next_update_utc\":\"Thu, 02 Jan 2025 00:00:01 +0000\","
+                + "\"base_code\":\"USD\",\"target_code\":\"EUR\",\"conversion_rate\":0.9612}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] tableJson(List<Currency> currencies, double[] rates) {
+        StringBuilder json = new StringBuilder("{\"result\":\"success\",\"time_last_update_unix\":1735689601,"
+                + "\"time_last_update_utc\":\"Wed, 01 Jan 2025 00:00:01 +0000\","
+                + "\"base_code\":\"USD\",\"conversion_rates\":{");
+        for (int i = 0; i < currencies.size(); i++) {
+            if (i > 0) json.append(',');
+            json.append('"').append(currencies.get(i).code()).append("\":").append(rates[i]);
+        }
+        return json.append("}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] currenciesJson(List<Currency> currencies) {
+        StringBuilder json = new StringBuilder("{\"result\":\"success\",\"supported_codes\":[");
+        for (int i = 0; i < currencies.size(); i++) {
+            if (i > 0) json.append(',');
+            Currency currency = currencies.get(i);
+            json.append("[\"").append(currency.code()).append("\",\"").append(currency.name()).append("\"]");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+package benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class LoadTest {
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/convert?amount=100&from=USD&to=EUR";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        Result result = run(URI.create(url), concurrency, duration);
+        System.out.println(result);
+    }
+
+    public static Result run(URI uri, int concurrency, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<Sample>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> measure(client, request, deadline)));
+            }
+        }
+
+        long errors = 0;
+        long[] all = new long[0];
+        for (Future<Sample> worker : workers) {
+            Sample sample = worker.get();
+            errors += sample.errors();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + sample.count());
+            System.arraycopy(sample.latencies(), 0, all, offset, sample.count());
+        }
+        Arrays.sort(all);
+        return new Result(all, errors, duration);
+    }
+
+    private static Sample measure(HttpClient client, HttpRequest request, long deadline) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long errors = 0;
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors++;
+                    continue;
+                }
+            } catch (IOException e) {
+                errors++;
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return new Sample(latencies, count, errors);
+    }
+
+    private record Sample(long[] latencies, int count, long errors) {
+    }
+
+    public static class Result {
+        private final long[] sortedLatencies;
+        private final long errors;
+        private final Duration duration;
+
+        Result(long[] sortedLatencies, long errors, Duration duration) {
+            this.sortedLatencies = sortedLatencies;
+            this.errors = errors;
+            this.duration = duration;
+        }
+
+        public long requests() { return sortedLatencies.length; }
+        public long errors() { return errors; }
+
+        public double throughput() {
+            return sortedLatencies.length / (duration.toNanos() / 1e9);
+        }
+
+        public double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%.1f req/s p50=%.3f ms p99=%.3f ms p99.9=%.3f ms",
+                    requests(), errors, throughput(),
+                    percentileMillis(50), percentileMillis(99), percentileMillis(99.9));
+        }
+    }
+}
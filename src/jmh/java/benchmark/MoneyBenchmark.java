@@ -0,0 +1,68 @@
+package benchmark;
+
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.FixedPointMoney;
+import domain.model.Money;
+import domain.model.ScaledRate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+    private Currency usd;
+    private ExchangeRate rate;
+    private ScaledRate scaledRate;
+    private Money money;
+    private FixedPointMoney fixedPointMoney;
+    private double amount;
+    private long minorUnits;
+
+    @Setup
+    public void setUp() {
+        usd = new Currency("USD", "United States Dollar");
+        Currency eur = new Currency("EUR", "Euro");
+        rate = new ExchangeRate(LocalDate.now(), usd, eur, 0.9612);
+        scaledRate = ScaledRate.of(rate);
+        amount = 1234.56;
+        minorUnits = 123456;
+        money = new Money(amount, usd);
+        fixedPointMoney = new FixedPointMoney(minorUnits, usd);
+    }
+
+    @Benchmark
+    public Money constructFromDouble() {
+        return new Money(amount, usd);
+    }
+
+    @Benchmark
+    public Money constructFromBigDecimal() {
+        return new Money(BigDecimal.valueOf(minorUnits, 2), usd);
+    }
+
+    @Benchmark
+    public Money exchange() {
+        return money.exchange(rate);
+    }
+
+    @Benchmark
+    public FixedPointMoney fixedPointExchange() {
+        return fixedPointMoney.exchange(scaledRate);
+    }
+
+    @Benchmark
+    public long fixedPointExchangeMinorUnits() {
+        return FixedPointMoney.exchange(minorUnits, scaledRate);
+    }
+}
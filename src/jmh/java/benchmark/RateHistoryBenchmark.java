@@ -0,0 +1,77 @@
+package benchmark;
+
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import infrastructure.history.RateHistory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateHistoryBenchmark {
+    @Param({"10"})
+    public int years;
+
+    @Param({"160"})
+    public int currencyCount;
+
+    private List<Currency> currencies;
+    private RateHistory history;
+    private int firstDay;
+    private int days;
+
+    @Setup
+    public void setUp() {
+        currencies = Fixtures.currencies(currencyCount);
+        firstDay = (int) LocalDate.now().minusYears(years).toEpochDay();
+        days = years * 365;
+
+        Random random = new Random(5);
+        RateHistory.Builder builder = RateHistory.builder();
+        for (int c = 1; c < currencies.size(); c++) {
+            double rate = 0.5 + random.nextDouble() * 100;
+            for (int d = 0; d < days; d++) {
+                rate *= 1 + (random.nextDouble() - 0.5) * 0.01;
+                builder.add(currencies.get(0).code(), currencies.get(c).code(), firstDay + d, rate);
+            }
+        }
+        history = builder.build();
+    }
+
+    @Benchmark
+    public ExchangeRate asOfLookup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Currency to = currencies.get(1 + random.nextInt(currencies.size() - 1));
+        LocalDate date = LocalDate.ofEpochDay(firstDay + random.nextInt(days));
+        return history.getExchangeRate(currencies.get(0), to, date);
+    }
+
+    @Benchmark
+    public ExchangeRate inverseAsOfLookup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Currency from = currencies.get(1 + random.nextInt(currencies.size() - 1));
+        LocalDate date = LocalDate.ofEpochDay(firstDay + random.nextInt(days));
+        return history.getExchangeRate(from, currencies.get(0), date);
+    }
+
+    @Benchmark
+    public int monthRangeScan() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Currency to = currencies.get(1 + random.nextInt(currencies.size() - 1));
+        LocalDate start = LocalDate.ofEpochDay(firstDay + random.nextInt(days - 31));
+        return history.getExchangeRates(currencies.get(0), to, start, start.plusDays(30)).size();
+    }
+}
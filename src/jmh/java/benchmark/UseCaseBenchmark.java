@@ -0,0 +1,85 @@
+package benchmark;
+
+import application.port.ExchangeRateRepository;
+import application.usecase.ExchangeMoneyUseCase;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.Money;
+import domain.model.RateSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UseCaseBenchmark {
+    private static final int BATCH = 1_000_000;
+
+    private ExchangeMoneyUseCase useCase;
+    private CurrencyRegistry registry;
+    private Money money;
+    private Currency target;
+    private double[] amounts;
+    private long[] minorUnits;
+    private int[] sources;
+    private int[] targets;
+    private double[] out;
+    private long[] minorOut;
+
+    @Setup
+    public void setUp() {
+        List<Currency> currencies = Fixtures.currencies(160);
+        registry = new CurrencyRegistry(currencies);
+        String[] codes = currencies.stream().map(Currency::code).toArray(String[]::new);
+        RateSnapshot snapshot = new RateSnapshot(LocalDate.now(), "USD", codes, Fixtures.rates(codes.length, 7));
+        ExchangeRateRepository repository = snapshot::rate;
+        useCase = new ExchangeMoneyUseCase(repository);
+
+        money = new Money(1234.56, currencies.get(0));
+        target = currencies.get(1);
+
+        Random random = new Random(11);
+        amounts = new double[BATCH];
+        minorUnits = new long[BATCH];
+        sources = new int[BATCH];
+        targets = new int[BATCH];
+        out = new double[BATCH];
+        minorOut = new long[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            minorUnits[i] = random.nextInt(10_000_000);
+            amounts[i] = minorUnits[i] / 100.0;
+            sources[i] = i / 4096 % codes.length;
+            targets[i] = 0;
+        }
+    }
+
+    @Benchmark
+    public Money execute() {
+        return useCase.execute(money, target);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public double[] executeBatchDouble() {
+        useCase.executeBatch(registry, amounts, sources, targets, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long[] executeBatchMinorUnits() {
+        useCase.executeBatch(registry, minorUnits, sources, targets, minorOut);
+        return minorOut;
+    }
+}
@@ -0,0 +1,73 @@
+package benchmark;
+
+import com.google.gson.Gson;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import infrastructure.api.dto.CurrencyListResponse;
+import infrastructure.api.dto.LatestRatesResponse;
+import infrastructure.wire.SnapshotCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+    private Gson gson;
+    private List<Currency> currencies;
+    private RateSnapshot snapshot;
+    private LatestRatesResponse table;
+    private CurrencyListResponse codes;
+    private String tableJson;
+    private String codesJson;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        gson = new Gson();
+        currencies = Fixtures.currencies(162);
+        double[] rates = Fixtures.rates(currencies.size(), 42);
+        String[] rateCodes = currencies.stream().map(Currency::code).toArray(String[]::new);
+        snapshot = new RateSnapshot(Instant.ofEpochSecond(1735689601), Instant.ofEpochSecond(1735776001),
+                "USD", rateCodes, rates);
+        tableJson = new String(Fixtures.tableJson(currencies, rates));
+        codesJson = new String(Fixtures.currenciesJson(currencies));
+        table = gson.fromJson(tableJson, LatestRatesResponse.class);
+        codes = gson.fromJson(codesJson, CurrencyListResponse.class);
+        binary = SnapshotCodec.encode(snapshot, currencies);
+        System.out.printf("%nJSON payloads: %d bytes, binary snapshot: %d bytes%n",
+                tableJson.length() + codesJson.length(), binary.length);
+    }
+
+    @Benchmark
+    public int gsonEncode() {
+        return gson.toJson(table).length() + gson.toJson(codes).length();
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return SnapshotCodec.encode(snapshot, currencies);
+    }
+
+    @Benchmark
+    public int gsonDecode() {
+        LatestRatesResponse rates = gson.fromJson(tableJson, LatestRatesResponse.class);
+        CurrencyListResponse list = gson.fromJson(codesJson, CurrencyListResponse.class);
+        return rates.getConversionRates().size() + list.getSupportedCodes().size();
+    }
+
+    @Benchmark
+    public SnapshotCodec.Payload binaryDecode() {
+        return SnapshotCodec.decode(ByteBuffer.wrap(binary));
+    }
+}
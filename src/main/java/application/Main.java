@@ -1,70 +1,301 @@
 package application;
 
 import application.usecase.ExchangeMoneyUseCase;
+import application.usecase.FanOutConversionUseCase;
+import application.port.CurrencyRepository;
+import application.port.ExchangeRateRepository;
+import application.port.HistoricalExchangeRateRepository;
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.Money;
+import domain.model.RateSnapshot;
 import domain.service.CurrencyService;
 import domain.service.ExchangeRateService;
-import infrastructure.api.ExchangeRateApiClient;
+import domain.service.RateChangePublisher;
+import infrastructure.config.ApiConfig;
+import infrastructure.csv.CsvConversionPipeline;
+import infrastructure.history.RateHistoryCsvImporter;
+import infrastructure.metrics.CacheMetrics;
+import infrastructure.metrics.LatencyRecorder;
+import infrastructure.metrics.MeteredCurrencyRepository;
+import infrastructure.metrics.MeteredExchangeMoneyUseCase;
+import infrastructure.metrics.MeteredExchangeRateRepository;
+import infrastructure.metrics.MeteredRateSnapshotRepository;
+import infrastructure.metrics.Metrics;
+import infrastructure.persistence.PersistentRateStore;
+import infrastructure.provider.MultiProviderRateRepository;
+import infrastructure.repository.ScheduledRateRefresher;
+import infrastructure.repository.TriangulatingExchangeRateRepository;
+import infrastructure.resilience.CircuitBreaker;
+import infrastructure.resilience.Resilience;
+import infrastructure.resilience.ResilientCurrencyRepository;
+import infrastructure.resilience.ResilientRateSnapshotRepository;
+import infrastructure.resilience.RetryPolicy;
+import infrastructure.resilience.TokenBucket;
+import infrastructure.wire.SharedSnapshotRepository;
 import presentation.controller.ExchangeController;
+import presentation.controller.LiveConversionController;
+import presentation.http.ConversionServer;
+import presentation.ui.AllCurrenciesView;
 import presentation.ui.MoneyCalculatorView;
 
 import javax.swing.*;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class Main {
-    public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> {
-            ExchangeRateApiClient apiClient = new ExchangeRateApiClient();
-            
-            CurrencyService currencyService = new CurrencyService(apiClient);
-            ExchangeRateService exchangeRateService = new ExchangeRateService(apiClient);
-            
-            ExchangeMoneyUseCase exchangeMoneyUseCase = new ExchangeMoneyUseCase(apiClient);
-            
-            ExchangeController controller = new ExchangeController(exchangeMoneyUseCase);
+    private static final int DEFAULT_PORT = 8080;
+    private static final Currency BASE_CURRENCY = new Currency("USD", "United States Dollar");
+    private static final int RATE_CACHE_SIZE = 1024;
+    private static final String STARTUP_TRACE_PROPERTY = "moneycalculator.startup.trace";
+    private static final String STARTUP_EXIT_PROPERTY = "moneycalculator.startup.exit";
+    private static final String[][] WARM_UP_PAIRS = {
+            {"USD", "EUR"}, {"EUR", "USD"}, {"USD", "GBP"}, {"GBP", "USD"},
+            {"EUR", "GBP"}, {"USD", "JPY"}, {"EUR", "JPY"}, {"USD", "CNY"}
+    };
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--server")) {
+            startServer(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT);
+            return;
+        }
+        if (args.length >= 4 && args[0].equals("--convert")) {
+            convertFile(Path.of(args[1]), Path.of(args[2]), args[3]);
+            return;
+        }
 
+        CompletableFuture<List<Currency>> cachedCurrencies = CompletableFuture.supplyAsync(
+                () -> PersistentRateStore.storedCurrencies(PersistentRateStore.defaultDirectory()).orElse(List.of()));
+        CompletableFuture<Components> components = CompletableFuture.supplyAsync(Components::new);
+
+        SwingUtilities.invokeLater(() -> {
             MoneyCalculatorView view = new MoneyCalculatorView();
             
-            initializeApplication(view, controller, currencyService);
+            initializeApplication(view, cachedCurrencies, components);
             
             view.setVisible(true);
         });
     }
 
-    private static void initializeApplication(
-            MoneyCalculatorView view, 
-            ExchangeController controller,
-            CurrencyService currencyService) {
-        
-        new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() {
-                view.setCurrencies(currencyService.getAllCurrencies());
-                return null;
+    private static void startServer(int port) throws IOException {
+        Components components = new Components();
+
+        ConversionServer server = new ConversionServer(
+                components.exchangeMoneyUseCase, components.fanOutConversionUseCase,
+                components.currencyService, components.refresher, loadHistory(ApiConfig.defaults()),
+                components.metrics::render, new InetSocketAddress(port));
+        server.start();
+        System.out.println("Money Calculator server listening on " + server.address());
+    }
+
+    private static HistoricalExchangeRateRepository loadHistory(ApiConfig config) throws IOException {
+        if (config.get("history.file", null) == null) {
+            return null;
+        }
+        return new RateHistoryCsvImporter().importFrom(config.getPath("history.file"));
+    }
+
+    private static void convertFile(Path input, Path output, String targetCode) throws IOException {
+        Components components = new Components();
+
+        RateSnapshot snapshot = components.snapshots.getSnapshot(BASE_CURRENCY);
+        List<Currency> currencies = new ArrayList<>(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            currencies.add(new Currency(snapshot.code(i), snapshot.code(i)));
+        }
+        CurrencyRegistry registry = new CurrencyRegistry(currencies);
+        Currency target = registry.find(targetCode);
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown target currency: " + targetCode);
+        }
+
+        CsvConversionPipeline pipeline = new CsvConversionPipeline(
+                new ExchangeMoneyUseCase(snapshot::rate), registry, target);
+        long start = System.nanoTime();
+        long rows = pipeline.run(input, output);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Converted %d rows to %s in %.2f s (%.0f rows/s)%n",
+                rows, target.code(), seconds, rows / seconds);
+    }
+
+    private static final class Startup {
+        private List<Currency> shown = List.of();
+        private Metrics metrics;
+        private long interactiveMillis = -1;
+
+        void showCurrencies(MoneyCalculatorView view, List<Currency> currencies, boolean fresh) {
+            if (currencies.isEmpty() || currencies.equals(shown) || (!fresh && !shown.isEmpty())) {
+                return;
             }
+            view.setCurrencies(currencies);
+            shown = currencies;
+            checkInteractive();
+        }
 
-            @Override
-            protected void done() {
-                view.onExchangeClicked(() -> performExchange(view, controller));
+        void exchangeReady(Metrics metrics) {
+            this.metrics = metrics;
+            checkInteractive();
+        }
+
+        void failed(MoneyCalculatorView view, Throwable cause) {
+            if (shown.isEmpty()) {
+                view.displayError("Error: " + cause.getMessage());
+            }
+        }
+
+        private void checkInteractive() {
+            if (interactiveMillis >= 0 || shown.isEmpty() || metrics == null) {
+                return;
+            }
+            interactiveMillis = ProcessHandle.current().info().startInstant()
+                    .map(launched -> Duration.between(launched, Instant.now()).toMillis())
+                    .orElse(0L);
+            metrics.gauge("startup.interactive_ms", () -> interactiveMillis);
+            if (Boolean.getBoolean(STARTUP_TRACE_PROPERTY)) {
+                System.out.println("Interactive " + interactiveMillis + " ms after JVM launch");
+            }
+            if (Boolean.getBoolean(STARTUP_EXIT_PROPERTY)) {
+                System.exit(0);
             }
-        }.execute();
+        }
     }
 
-    private static void performExchange(MoneyCalculatorView view, ExchangeController controller) {
-        view.showLoading(true);
-        
-        new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() {
-                var money = view.getInputMoney();
-                var targetCurrency = view.getTargetCurrency();
-                var result = controller.exchangeMoney(money, targetCurrency);
-                view.displayResult(result);
-                return null;
+    private static final class Components {
+        final Metrics metrics = new Metrics();
+        final RateSnapshotRepository snapshots;
+        final ScheduledRateRefresher refresher;
+        final CurrencyService currencyService;
+        final ExchangeRateService exchangeRateService;
+        final ExchangeMoneyUseCase exchangeMoneyUseCase;
+        final FanOutConversionUseCase fanOutConversionUseCase;
+        final RateChangePublisher rateChanges;
+
+        Components() {
+            ApiConfig config = ApiConfig.defaults();
+            MultiProviderRateRepository providers = MultiProviderRateRepository.fromConfig(config, metrics);
+            Resilience resilience = new Resilience(
+                    new RetryPolicy(config.getInt("retry.attempts"),
+                            config.getDuration("retry.initialBackoff"), config.getDuration("retry.maxBackoff")),
+                    new CircuitBreaker(config.getInt("breaker.failureThreshold"),
+                            config.getDuration("breaker.openDuration")),
+                    new TokenBucket(config.getInt("rateLimit.burst"), config.getDouble("rateLimit.perSecond")),
+                    config.getDuration("rateLimit.maxWait"));
+            PersistentRateStore store = new PersistentRateStore(
+                    new ResilientRateSnapshotRepository(
+                            new MeteredRateSnapshotRepository(providers, metrics, "upstream.rates"), resilience),
+                    new ResilientCurrencyRepository(
+                            new MeteredCurrencyRepository(providers, metrics, "upstream.currencies"), resilience),
+                    PersistentRateStore.defaultDirectory());
+            CurrencyRepository currencies = store;
+            RateSnapshotRepository source = store;
+            if (config.get("shared.file", null) != null) {
+                SharedSnapshotRepository shared = new SharedSnapshotRepository(
+                        store, store, BASE_CURRENCY, config.getPath("shared.file"));
+                currencies = shared;
+                source = shared;
+            }
+            snapshots = source;
+            refresher = new ScheduledRateRefresher(
+                    snapshots, BASE_CURRENCY, config.getDuration("refresh.interval"),
+                    config.getDouble("refresh.jitter"), config.getDuration("refresh.initialBackoff"),
+                    config.getDuration("refresh.maxBackoff"));
+            refresher.start();
+            rateChanges = refresher.changes();
+            // Caches triangulated pairs too, so a pair missing from the base table is not re-resolved per lookup.
+            exchangeRateService = new ExchangeRateService(
+                    withTriangulation(refresher, snapshots, config.getList("triangulation.pivots")),
+                    config.getDuration("refresh.interval"), RATE_CACHE_SIZE, new CacheMetrics());
+            exchangeRateService.follow(rateChanges);
+            ExchangeRateRepository rateRepository = new MeteredExchangeRateRepository(
+                    exchangeRateService::getRate, metrics, "rates");
+
+            currencyService = new CurrencyService(currencies);
+            exchangeMoneyUseCase = new MeteredExchangeMoneyUseCase(rateRepository, metrics);
+            fanOutConversionUseCase = new FanOutConversionUseCase(refresher, BASE_CURRENCY, currencyService::registry);
+
+            CacheMetrics.register(metrics, exchangeRateService);
+            metrics.gauge("rates.snapshot.age_seconds", () -> {
+                Duration age = refresher.age();
+                return age == null ? -1 : age.toSeconds();
+            });
+            metrics.gauge("rates.refresh.failures", refresher::consecutiveFailures);
+            metrics.gauge("rates.changes.subscribers", rateChanges::subscriberCount);
+            metrics.gauge("rates.changes.published", rateChanges::publishedCount);
+            metrics.gauge("rates.changes.dropped", rateChanges::droppedCount);
+            metrics.gauge("upstream.circuit.state", () -> resilience.circuitBreaker().state().ordinal());
+            metrics.registerMBean();
+        }
+
+        private static ExchangeRateRepository withTriangulation(
+                ExchangeRateRepository direct, RateSnapshotRepository source, List<String> pivotCodes) {
+            if (pivotCodes.isEmpty()) {
+                return direct;
+            }
+            List<Currency> pivots = new ArrayList<>();
+            pivots.add(BASE_CURRENCY);
+            for (String code : pivotCodes) {
+                if (!code.equals(BASE_CURRENCY.code())) {
+                    pivots.add(new Currency(code, code));
+                }
             }
+            TriangulatingExchangeRateRepository triangulated = new TriangulatingExchangeRateRepository(source, pivots);
+            return (from, to) -> {
+                try {
+                    return direct.getExchangeRate(from, to);
+                } catch (ExchangeRateException e) {
+                    return triangulated.getExchangeRate(from, to);
+                }
+            };
+        }
 
-            @Override
-            protected void done() {
-                view.showLoading(false);
+        void warmUp() {
+            for (String[] pair : WARM_UP_PAIRS) {
+                try {
+                    exchangeMoneyUseCase.execute(
+                            new Money(1, new Currency(pair[0], pair[0])), new Currency(pair[1], pair[1]));
+                } catch (RuntimeException e) {
+                    // Warm-up is best effort; the first real conversion reports any failure.
+                }
             }
-        }.execute();
+        }
+    }
+
+    private static void initializeApplication(
+            MoneyCalculatorView view,
+            CompletableFuture<List<Currency>> cachedCurrencies,
+            CompletableFuture<Components> components) {
+        Startup startup = new Startup();
+
+        cachedCurrencies.thenAccept(currencies ->
+                SwingUtilities.invokeLater(() -> startup.showCurrencies(view, currencies, false)));
+
+        components.thenAcceptAsync(loaded -> {
+            ExchangeController controller = new ExchangeController(
+                    loaded.exchangeMoneyUseCase, loaded.fanOutConversionUseCase);
+            LatencyRecorder inputToPaint = loaded.metrics.recorder("ui.input_to_paint");
+            SwingUtilities.invokeLater(() -> {
+                LiveConversionController live = new LiveConversionController(controller, view, new AllCurrenciesView());
+                live.bind(inputToPaint::record);
+                live.follow(loaded.rateChanges);
+                startup.exchangeReady(loaded.metrics);
+            });
+
+            CompletableFuture.runAsync(loaded::warmUp);
+            List<Currency> currencies = loaded.currencyService.getAllCurrencies();
+            SwingUtilities.invokeLater(() -> startup.showCurrencies(view, currencies, true));
+        }).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            SwingUtilities.invokeLater(() -> startup.failed(view, cause));
+            return null;
+        });
     }
 }
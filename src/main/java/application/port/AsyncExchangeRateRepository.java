@@ -0,0 +1,10 @@
+package application.port;
+
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncExchangeRateRepository {
+    CompletableFuture<ExchangeRate> getExchangeRateAsync(Currency from, Currency to);
+}
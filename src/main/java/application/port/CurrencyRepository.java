@@ -1,10 +1,16 @@
 package application.port;
 
 import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+
 import java.util.List;
 import java.util.Optional;
 
 public interface CurrencyRepository {
     List<Currency> findAll();
     Optional<Currency> findByCode(String code);
+
+    default CurrencyRegistry registry() {
+        return new CurrencyRegistry(findAll());
+    }
 }
@@ -0,0 +1,10 @@
+package application.port;
+
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+
+import java.time.LocalDate;
+
+public interface HistoricalExchangeRateRepository {
+    ExchangeRate getExchangeRate(Currency from, Currency to, LocalDate date);
+}
@@ -0,0 +1,8 @@
+package application.port;
+
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+
+public interface RateSnapshotRepository {
+    RateSnapshot getSnapshot(Currency base);
+}
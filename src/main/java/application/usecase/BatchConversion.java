@@ -0,0 +1,199 @@
+package application.usecase;
+
+import application.port.ExchangeRateRepository;
+import domain.model.CurrencyRegistry;
+import domain.model.ExchangeRate;
+import domain.model.MinorUnits;
+import domain.model.ScaledRate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+class BatchConversion {
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int currencyCount;
+    private final int[] keys;
+    private final int[] values;
+    private final double[] rates;
+    private final ScaledRate[] scaledRates;
+    private final int[] fromExponents;
+    private final int[] toExponents;
+    private final int pairs;
+
+    private BatchConversion(int currencyCount, int[] keys, int[] values, double[] rates,
+                            ScaledRate[] scaledRates, int[] fromExponents, int[] toExponents, int pairs) {
+        this.currencyCount = currencyCount;
+        this.keys = keys;
+        this.values = values;
+        this.rates = rates;
+        this.scaledRates = scaledRates;
+        this.fromExponents = fromExponents;
+        this.toExponents = toExponents;
+        this.pairs = pairs;
+    }
+
+    static BatchConversion resolve(ExchangeRateRepository repository, CurrencyRegistry currencies,
+                                   int[] sources, int[] targets, int length) {
+        int n = currencies.size();
+        int[] keys = emptyKeys(64);
+        int[] values = new int[64];
+
+        double[] rates = new double[16];
+        ScaledRate[] scaledRates = new ScaledRate[16];
+        int[] fromExponents = new int[16];
+        int[] toExponents = new int[16];
+        int pairs = 0;
+
+        int previous = -1;
+        for (int i = 0; i < length; i++) {
+            int key = key(sources[i], targets[i], n);
+            if (key == previous) {
+                continue;
+            }
+            previous = key;
+            int slot = probe(keys, key);
+            if (keys[slot] == key) {
+                continue;
+            }
+            if (pairs * 2 >= keys.length) {
+                int[] grownKeys = emptyKeys(keys.length * 2);
+                int[] grownValues = new int[keys.length * 2];
+                for (int j = 0; j < keys.length; j++) {
+                    if (keys[j] != -1) {
+                        int grownSlot = probe(grownKeys, keys[j]);
+                        grownKeys[grownSlot] = keys[j];
+                        grownValues[grownSlot] = values[j];
+                    }
+                }
+                keys = grownKeys;
+                values = grownValues;
+                slot = probe(keys, key);
+            }
+            if (pairs == rates.length) {
+                rates = Arrays.copyOf(rates, pairs * 2);
+                scaledRates = Arrays.copyOf(scaledRates, pairs * 2);
+                fromExponents = Arrays.copyOf(fromExponents, pairs * 2);
+                toExponents = Arrays.copyOf(toExponents, pairs * 2);
+            }
+            ExchangeRate rate = sources[i] == targets[i]
+                    ? new ExchangeRate(LocalDate.now(), currencies.get(sources[i]), currencies.get(targets[i]), 1.0)
+                    : repository.getExchangeRate(currencies.get(sources[i]), currencies.get(targets[i]));
+            rates[pairs] = rate.rate();
+            scaledRates[pairs] = ScaledRate.of(rate);
+            fromExponents[pairs] = MinorUnits.exponent(rate.from());
+            toExponents[pairs] = MinorUnits.exponent(rate.to());
+            keys[slot] = key;
+            values[slot] = pairs++;
+        }
+        return new BatchConversion(n, keys, values, rates, scaledRates, fromExponents, toExponents, pairs);
+    }
+
+    void convert(double[] amounts, int[] sources, int[] targets, double[] out, int length) {
+        run(length, (from, to) -> convertRange(amounts, sources, targets, out, from, to));
+    }
+
+    void convert(long[] minorUnits, int[] sources, int[] targets, long[] out, int length) {
+        run(length, (from, to) -> convertRange(minorUnits, sources, targets, out, from, to));
+    }
+
+    private void convertRange(double[] amounts, int[] sources, int[] targets, double[] out, int from, int to) {
+        int start = from;
+        while (start < to) {
+            int source = sources[start];
+            int target = targets[start];
+            int end = start + 1;
+            while (end < to && sources[end] == source && targets[end] == target) {
+                end++;
+            }
+            double rate = rates[pairOf(source, target)];
+            for (int i = start; i < end; i++) {
+                out[i] = amounts[i] * rate;
+            }
+            start = end;
+        }
+    }
+
+    private void convertRange(long[] minorUnits, int[] sources, int[] targets, long[] out, int from, int to) {
+        int start = from;
+        while (start < to) {
+            int source = sources[start];
+            int target = targets[start];
+            int end = start + 1;
+            while (end < to && sources[end] == source && targets[end] == target) {
+                end++;
+            }
+            int pair = pairOf(source, target);
+            ScaledRate rate = scaledRates[pair];
+            int fromExponent = fromExponents[pair];
+            int toExponent = toExponents[pair];
+            for (int i = start; i < end; i++) {
+                out[i] = rate.apply(minorUnits[i], fromExponent, toExponent);
+            }
+            start = end;
+        }
+    }
+
+    private int pairOf(int source, int target) {
+        return values[probe(keys, key(source, target, currencyCount))];
+    }
+
+    private static int key(int source, int target, int n) {
+        if (source < 0 || source >= n || target < 0 || target >= n) {
+            throw new IllegalArgumentException("Unknown currency ordinal: " + source + " or " + target);
+        }
+        return source * n + target;
+    }
+
+    private static int[] emptyKeys(int capacity) {
+        int[] keys = new int[capacity];
+        Arrays.fill(keys, -1);
+        return keys;
+    }
+
+    private static int probe(int[] keys, int key) {
+        int mask = keys.length - 1;
+        int slot = (key * 0x9E3779B9 >>> 16) & mask;
+        while (keys[slot] != -1 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static void run(int length, RangeTask task) {
+        if (length < PARALLEL_THRESHOLD) {
+            task.convert(0, length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new Split(task, 0, length));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeTask {
+        void convert(int from, int to);
+    }
+
+    private static final class Split extends RecursiveAction {
+        private final RangeTask task;
+        private final int from;
+        private final int to;
+
+        Split(RangeTask task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                task.convert(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Split(task, from, middle), new Split(task, middle, to));
+        }
+    }
+}
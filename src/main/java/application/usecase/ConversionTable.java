@@ -0,0 +1,31 @@
+package application.usecase;
+
+import domain.model.Currency;
+import domain.model.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class ConversionTable {
+    private final Money source;
+    private final LocalDate date;
+    private final Currency[] targets;
+    private final BigDecimal[] amounts;
+
+    ConversionTable(Money source, LocalDate date, Currency[] targets, BigDecimal[] amounts) {
+        this.source = source;
+        this.date = date;
+        this.targets = targets;
+        this.amounts = amounts;
+    }
+
+    public Money source() { return source; }
+    public LocalDate date() { return date; }
+    public int size() { return targets.length; }
+    public Currency target(int index) { return targets[index]; }
+    public double amount(int index) { return amounts[index].doubleValue(); }
+
+    public Money money(int index) {
+        return new Money(amounts[index], targets[index]);
+    }
+}
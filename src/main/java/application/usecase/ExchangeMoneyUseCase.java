@@ -2,6 +2,7 @@ package application.usecase;
 
 import application.port.ExchangeRateRepository;
 import domain.model.Currency;
+import domain.model.CurrencyRegistry;
 import domain.model.ExchangeRate;
 import domain.model.Money;
 
@@ -19,4 +20,28 @@ public class ExchangeMoneyUseCase {
         );
         return money.exchange(rate);
     }
+
+    public void executeBatch(CurrencyRegistry currencies, double[] amounts,
+                             int[] sourceOrdinals, int[] targetOrdinals, double[] out) {
+        int length = checkBatch(amounts.length, sourceOrdinals, targetOrdinals, out.length);
+        BatchConversion.resolve(exchangeRateRepository, currencies, sourceOrdinals, targetOrdinals, length)
+                .convert(amounts, sourceOrdinals, targetOrdinals, out, length);
+    }
+
+    public void executeBatch(CurrencyRegistry currencies, long[] minorUnits,
+                             int[] sourceOrdinals, int[] targetOrdinals, long[] out) {
+        int length = checkBatch(minorUnits.length, sourceOrdinals, targetOrdinals, out.length);
+        BatchConversion.resolve(exchangeRateRepository, currencies, sourceOrdinals, targetOrdinals, length)
+                .convert(minorUnits, sourceOrdinals, targetOrdinals, out, length);
+    }
+
+    private static int checkBatch(int length, int[] sourceOrdinals, int[] targetOrdinals, int outLength) {
+        if (sourceOrdinals.length != length || targetOrdinals.length != length) {
+            throw new IllegalArgumentException("Amounts and ordinals must have the same length");
+        }
+        if (outLength < length) {
+            throw new IllegalArgumentException("Output buffer is too small");
+        }
+        return length;
+    }
 }
@@ -0,0 +1,90 @@
+package application.usecase;
+
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.Money;
+import domain.model.RateSnapshot;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class FanOutConversionUseCase {
+    private final RateSnapshotRepository snapshotRepository;
+    private final Currency base;
+    private final Supplier<CurrencyRegistry> registry;
+
+    public FanOutConversionUseCase(RateSnapshotRepository snapshotRepository) {
+        this(snapshotRepository, null);
+    }
+
+    public FanOutConversionUseCase(RateSnapshotRepository snapshotRepository, Currency base) {
+        this(snapshotRepository, base, () -> null);
+    }
+
+    public FanOutConversionUseCase(RateSnapshotRepository snapshotRepository, Currency base,
+                                   Supplier<CurrencyRegistry> registry) {
+        this.snapshotRepository = snapshotRepository;
+        this.base = base;
+        this.registry = registry;
+    }
+
+    public ConversionTable execute(Money money) {
+        RateSnapshot snapshot = snapshotFor(money);
+        int source = sourceOrdinal(snapshot, money);
+        CurrencyRegistry currencies = registry.get();
+
+        Currency[] targets = new Currency[snapshot.size()];
+        BigDecimal[] amounts = new BigDecimal[snapshot.size()];
+        for (int i = 0; i < targets.length; i++) {
+            Currency known = currencies == null ? null : currencies.find(snapshot.code(i));
+            targets[i] = known != null ? known : new Currency(snapshot.code(i), snapshot.code(i));
+            amounts[i] = exchange(money, snapshot, source, i);
+        }
+        return new ConversionTable(money, snapshot.date(), targets, amounts);
+    }
+
+    public ConversionTable execute(Money money, List<Currency> targets) {
+        RateSnapshot snapshot = snapshotFor(money);
+        int source = sourceOrdinal(snapshot, money);
+
+        Currency[] selected = new Currency[targets.size()];
+        BigDecimal[] amounts = new BigDecimal[targets.size()];
+        int size = 0;
+        for (Currency target : targets) {
+            int ordinal = snapshot.ordinalOf(target.code());
+            if (ordinal >= 0) {
+                selected[size] = target;
+                amounts[size++] = exchange(money, snapshot, source, ordinal);
+            }
+        }
+        if (size < selected.length) {
+            selected = Arrays.copyOf(selected, size);
+            amounts = Arrays.copyOf(amounts, size);
+        }
+        return new ConversionTable(money, snapshot.date(), selected, amounts);
+    }
+
+    // Same arithmetic as Money.exchange over snapshot.rate(from, to), so both use cases agree to the cent.
+    private static BigDecimal exchange(Money money, RateSnapshot snapshot, int source, int target) {
+        return money.amount()
+                .multiply(BigDecimal.valueOf(snapshot.crossRate(source, target)))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private RateSnapshot snapshotFor(Money money) {
+        return snapshotRepository.getSnapshot(base != null ? base : money.currency());
+    }
+
+    private static int sourceOrdinal(RateSnapshot snapshot, Money money) {
+        int ordinal = snapshot.ordinalOf(money.currency().code());
+        if (ordinal < 0) {
+            throw new ExchangeRateException("No rates available for " + money.currency().code());
+        }
+        return ordinal;
+    }
+}
@@ -0,0 +1,151 @@
+package domain.model;
+
+import domain.exception.ExchangeRateException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+public class CrossRateMatrix {
+    private static final int SLOTS = 26 * 26 * 26;
+
+    private final String rootCode;
+    private final String[] codes;
+    private final int[] indexBySlot;
+    private final double[] unitsPerRoot;
+    private final double[] rootPerUnit;
+    private final int[] epochDays;
+    private final int[] hops;
+
+    public CrossRateMatrix(String rootCode, List<RateSnapshot> snapshots) {
+        Map<String, Integer> indices = new HashMap<>();
+        indices.put(rootCode, 0);
+        int edgeCount = 0;
+        for (RateSnapshot snapshot : snapshots) {
+            indices.putIfAbsent(snapshot.baseCode(), indices.size());
+            for (int i = 0; i < snapshot.size(); i++) {
+                indices.putIfAbsent(snapshot.code(i), indices.size());
+            }
+            edgeCount += 2 * snapshot.size();
+        }
+
+        int nodes = indices.size();
+        int[] offsets = new int[nodes + 1];
+        for (RateSnapshot snapshot : snapshots) {
+            int base = indices.get(snapshot.baseCode());
+            for (int i = 0; i < snapshot.size(); i++) {
+                offsets[base + 1]++;
+                offsets[indices.get(snapshot.code(i)) + 1]++;
+            }
+        }
+        for (int i = 0; i < nodes; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, nodes);
+        int[] targets = new int[edgeCount];
+        double[] edgeRates = new double[edgeCount];
+        int[] edgeDays = new int[edgeCount];
+        for (RateSnapshot snapshot : snapshots) {
+            int base = indices.get(snapshot.baseCode());
+            int day = (int) snapshot.date().toEpochDay();
+            for (int i = 0; i < snapshot.size(); i++) {
+                int quote = indices.get(snapshot.code(i));
+                int forward = cursor[base]++;
+                targets[forward] = quote;
+                edgeRates[forward] = snapshot.rate(i);
+                edgeDays[forward] = day;
+                int backward = cursor[quote]++;
+                targets[backward] = base;
+                edgeRates[backward] = 1.0 / snapshot.rate(i);
+                edgeDays[backward] = day;
+            }
+        }
+
+        this.rootCode = rootCode;
+        this.codes = new String[nodes];
+        this.indexBySlot = new int[SLOTS];
+        this.unitsPerRoot = new double[nodes];
+        this.rootPerUnit = new double[nodes];
+        this.epochDays = new int[nodes];
+        this.hops = new int[nodes];
+        Arrays.fill(indexBySlot, -1);
+        Arrays.fill(hops, Integer.MAX_VALUE);
+        indices.forEach((code, index) -> codes[index] = code);
+
+        shortestPaths(offsets, targets, edgeRates, edgeDays);
+        epochDays[0] = Arrays.stream(edgeDays).max().orElse((int) LocalDate.now().toEpochDay());
+
+        for (int i = 0; i < nodes; i++) {
+            int slot = CurrencyRegistry.slot(codes[i]);
+            if (slot >= 0 && hops[i] != Integer.MAX_VALUE) {
+                indexBySlot[slot] = i;
+            }
+        }
+    }
+
+    private void shortestPaths(int[] offsets, int[] targets, double[] edgeRates, int[] edgeDays) {
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        hops[0] = 0;
+        epochDays[0] = Integer.MAX_VALUE;
+        unitsPerRoot[0] = 1.0;
+        rootPerUnit[0] = 1.0;
+        queue.add(new long[] {label(0, Integer.MAX_VALUE), 0});
+
+        while (!queue.isEmpty()) {
+            long[] entry = queue.poll();
+            int node = (int) entry[1];
+            if (entry[0] != label(hops[node], epochDays[node])) {
+                continue;
+            }
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                int next = targets[e];
+                int nextHops = hops[node] + 1;
+                int nextDay = Math.min(epochDays[node], edgeDays[e]);
+                long nextLabel = label(nextHops, nextDay);
+                if (hops[next] == Integer.MAX_VALUE || nextLabel < label(hops[next], epochDays[next])) {
+                    hops[next] = nextHops;
+                    epochDays[next] = nextDay;
+                    unitsPerRoot[next] = unitsPerRoot[node] * edgeRates[e];
+                    rootPerUnit[next] = 1.0 / unitsPerRoot[next];
+                    queue.add(new long[] {nextLabel, next});
+                }
+            }
+        }
+    }
+
+    private static long label(int hops, int epochDay) {
+        return ((long) hops << 32) | (Integer.MAX_VALUE - (long) epochDay);
+    }
+
+    public String rootCode() { return rootCode; }
+
+    public int indexOf(CharSequence code) {
+        int slot = CurrencyRegistry.slot(code);
+        return slot < 0 ? -1 : indexBySlot[slot];
+    }
+
+    public double crossRate(int from, int to) {
+        return rootPerUnit[from] * unitsPerRoot[to];
+    }
+
+    public int hops(int index) {
+        return hops[index];
+    }
+
+    public LocalDate date(int from, int to) {
+        return LocalDate.ofEpochDay(Math.min(epochDays[from], epochDays[to]));
+    }
+
+    public ExchangeRate rate(Currency from, Currency to) {
+        int fromIndex = indexOf(from.code());
+        int toIndex = indexOf(to.code());
+        if (fromIndex < 0 || toIndex < 0) {
+            throw new ExchangeRateException("No rate available for " + from.code() + " to " + to.code());
+        }
+        return new ExchangeRate(date(fromIndex, toIndex), from, to, crossRate(fromIndex, toIndex));
+    }
+}
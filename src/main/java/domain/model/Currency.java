@@ -29,7 +29,7 @@ public class Currency {
     }
 
     @Override
-    public int hashCode() { return Objects.hash(code); }
+    public int hashCode() { return code.hashCode(); }
 
     @Override
     public String toString() { return code + " - " + name; }
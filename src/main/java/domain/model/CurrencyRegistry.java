@@ -0,0 +1,97 @@
+package domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class CurrencyRegistry {
+    private static final int SLOTS = 26 * 26 * 26;
+
+    private final Currency[] currencies;
+    private final short[] ordinalBySlot;
+    private final List<Currency> view;
+
+    public CurrencyRegistry(List<Currency> currencies) {
+        this(new Currency[0], new short[SLOTS], currencies);
+    }
+
+    private CurrencyRegistry(Currency[] known, short[] knownOrdinals, List<Currency> additions) {
+        Currency[] interned = Arrays.copyOf(known, known.length + additions.size());
+        short[] ordinals = knownOrdinals.clone();
+        int size = known.length;
+
+        for (Currency currency : additions) {
+            int slot = slot(currency.code());
+            if (slot < 0) {
+                throw new IllegalArgumentException("Currency code must be alphabetic: " + currency.code());
+            }
+            if (ordinals[slot] == 0) {
+                interned[size] = currency;
+                ordinals[slot] = (short) ++size;
+            }
+        }
+
+        this.currencies = Arrays.copyOf(interned, size);
+        this.ordinalBySlot = ordinals;
+        this.view = Collections.unmodifiableList(Arrays.asList(this.currencies));
+    }
+
+    public CurrencyRegistry withAll(List<Currency> additions) {
+        return new CurrencyRegistry(currencies, ordinalBySlot, additions);
+    }
+
+    public int size() { return currencies.length; }
+    public List<Currency> currencies() { return view; }
+
+    public Currency get(int ordinal) {
+        return currencies[ordinal];
+    }
+
+    public int ordinalOf(CharSequence code) {
+        int slot = slot(code);
+        return slot < 0 ? -1 : ordinalBySlot[slot] - 1;
+    }
+
+    public int ordinalOf(Currency currency) {
+        return ordinalOf(currency.code());
+    }
+
+    public Currency find(CharSequence code) {
+        int ordinal = ordinalOf(code);
+        return ordinal < 0 ? null : currencies[ordinal];
+    }
+
+    public Currency intern(Currency currency) {
+        Currency canonical = find(currency.code());
+        return canonical == null ? currency : canonical;
+    }
+
+    public List<Currency> missingFrom(List<Currency> candidates) {
+        List<Currency> missing = new ArrayList<>();
+        for (Currency candidate : candidates) {
+            if (ordinalOf(candidate.code()) < 0) {
+                missing.add(candidate);
+            }
+        }
+        return missing;
+    }
+
+    public static int slot(CharSequence code) {
+        if (code == null || code.length() != 3) {
+            return -1;
+        }
+        int a = letter(code.charAt(0));
+        int b = letter(code.charAt(1));
+        int c = letter(code.charAt(2));
+        if ((a | b | c) < 0) {
+            return -1;
+        }
+        return (a * 26 + b) * 26 + c;
+    }
+
+    private static int letter(char c) {
+        int index = (c | 0x20) - 'a';
+        return index >= 0 && index < 26 ? index : -1;
+    }
+}
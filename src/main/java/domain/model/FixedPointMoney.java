@@ -0,0 +1,59 @@
+package domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/** Long count of ISO 4217 minor units; unlike {@link Money}, not fixed at two decimals. */
+public class FixedPointMoney {
+    private final long minorUnits;
+    private final Currency currency;
+    private final int exponent;
+
+    public FixedPointMoney(long minorUnits, Currency currency) {
+        this(minorUnits, currency, MinorUnits.exponent(currency));
+    }
+
+    private FixedPointMoney(long minorUnits, Currency currency, int exponent) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+        this.exponent = exponent;
+    }
+
+    public static FixedPointMoney of(Money money) {
+        int exponent = MinorUnits.exponent(money.currency());
+        long minorUnits = money.amount()
+                .setScale(exponent, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+        return new FixedPointMoney(minorUnits, money.currency(), exponent);
+    }
+
+    public long minorUnits() { return minorUnits; }
+    public Currency currency() { return currency; }
+    public int exponent() { return exponent; }
+
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(minorUnits, exponent);
+    }
+
+    public Money toMoney() {
+        return new Money(amount(), currency);
+    }
+
+    public FixedPointMoney exchange(ScaledRate rate) {
+        if (!this.currency.equals(rate.from())) {
+            throw new IllegalArgumentException("Currency mismatch");
+        }
+        int targetExponent = MinorUnits.exponent(rate.to());
+        return new FixedPointMoney(rate.apply(minorUnits, exponent, targetExponent), rate.to(), targetExponent);
+    }
+
+    public static long exchange(long minorUnits, ScaledRate rate) {
+        return rate.apply(minorUnits, MinorUnits.exponent(rate.from()), MinorUnits.exponent(rate.to()));
+    }
+
+    @Override
+    public String toString() {
+        return amount().toPlainString() + " " + currency.code();
+    }
+}
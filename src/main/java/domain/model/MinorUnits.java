@@ -0,0 +1,41 @@
+package domain.model;
+
+import java.util.Set;
+
+public final class MinorUnits {
+    private static final Set<String> ZERO_DECIMALS = Set.of(
+            "BIF", "CLP", "DJF", "GNF", "ISK", "JPY", "KMF", "KRW", "PYG",
+            "RWF", "UGX", "UYI", "VND", "VUV", "XAF", "XOF", "XPF");
+    private static final Set<String> THREE_DECIMALS = Set.of(
+            "BHD", "IQD", "JOD", "KWD", "LYD", "OMR", "TND");
+    private static final Set<String> FOUR_DECIMALS = Set.of("CLF", "UYW");
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private MinorUnits() {
+    }
+
+    public static int exponent(Currency currency) {
+        return exponent(currency.code());
+    }
+
+    public static int exponent(String code) {
+        if (ZERO_DECIMALS.contains(code)) return 0;
+        if (THREE_DECIMALS.contains(code)) return 3;
+        if (FOUR_DECIMALS.contains(code)) return 4;
+        return 2;
+    }
+
+    static boolean hasPowerOfTen(int exponent) {
+        return exponent >= 0 && exponent < POWERS_OF_TEN.length;
+    }
+
+    static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+}
@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 public class Money {
+    private static final int MAX_INTEGER_DIGITS = 15;
+
     private final BigDecimal amount;
     private final Currency currency;
 
@@ -19,6 +21,24 @@ public class Money {
         this.currency = currency;
     }
 
+    public static BigDecimal parseAmount(String text) {
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Please enter a valid number");
+        }
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        int integerDigits = amount.precision() - amount.scale();
+        if (integerDigits > MAX_INTEGER_DIGITS) {
+            throw new IllegalArgumentException("Amount is too large");
+        }
+        // Below a thousandth the amount rounds to zero cents; skip rescaling huge exponents.
+        return integerDigits < -2 ? BigDecimal.ZERO : amount;
+    }
+
     public BigDecimal amount() { return amount; }
     public Currency currency() { return currency; }
 
@@ -0,0 +1,39 @@
+package domain.model;
+
+import java.time.Instant;
+
+public class RateChange {
+    private final String fromCode;
+    private final String toCode;
+    private final double oldRate;
+    private final double newRate;
+    private final Instant updatedAt;
+
+    public RateChange(String fromCode, String toCode, double oldRate, double newRate, Instant updatedAt) {
+        this.fromCode = fromCode;
+        this.toCode = toCode;
+        this.oldRate = oldRate;
+        this.newRate = newRate;
+        this.updatedAt = updatedAt;
+    }
+
+    public String fromCode() { return fromCode; }
+    public String toCode() { return toCode; }
+    public double oldRate() { return oldRate; }
+    public double newRate() { return newRate; }
+    public Instant updatedAt() { return updatedAt; }
+
+    public double relativeChange() {
+        return newRate / oldRate - 1;
+    }
+
+    public boolean involves(String code) {
+        return fromCode.equals(code) || toCode.equals(code);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s/%s %.6f -> %.6f (%+.4f%%) at %s",
+                fromCode, toCode, oldRate, newRate, relativeChange() * 100, updatedAt);
+    }
+}
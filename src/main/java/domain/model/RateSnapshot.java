@@ -0,0 +1,94 @@
+package domain.model;
+
+import domain.exception.ExchangeRateException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RateSnapshot {
+    private final LocalDate date;
+    private final Instant updatedAt;
+    private final Instant nextUpdateAt;
+    private final String baseCode;
+    private final String[] codes;
+    private final double[] rates;
+    private final Map<String, Integer> ordinals;
+
+    public RateSnapshot(LocalDate date, String baseCode, String[] codes, double[] rates) {
+        this(date.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                date.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant(), baseCode, codes, rates);
+    }
+
+    public RateSnapshot(Instant updatedAt, Instant nextUpdateAt, String baseCode, String[] codes, double[] rates) {
+        if (codes.length != rates.length) {
+            throw new IllegalArgumentException("Codes and rates must have the same length");
+        }
+        if (!nextUpdateAt.isAfter(updatedAt)) {
+            throw new IllegalArgumentException("Next update must follow the last update");
+        }
+        this.date = LocalDate.ofInstant(updatedAt, ZoneOffset.UTC);
+        this.updatedAt = updatedAt;
+        this.nextUpdateAt = nextUpdateAt;
+        this.baseCode = baseCode;
+        this.codes = codes.clone();
+        this.rates = rates.clone();
+        this.ordinals = new HashMap<>(codes.length * 2);
+        for (int i = 0; i < codes.length; i++) {
+            if (!(this.rates[i] > 0)) {
+                throw new IllegalArgumentException("Exchange rate must be positive: " + codes[i]);
+            }
+            ordinals.put(codes[i], i);
+        }
+        if (!ordinals.containsKey(baseCode)) {
+            throw new IllegalArgumentException("Base currency missing from snapshot: " + baseCode);
+        }
+    }
+
+    public LocalDate date() { return date; }
+    public Instant updatedAt() { return updatedAt; }
+    public Instant nextUpdateAt() { return nextUpdateAt; }
+    public String baseCode() { return baseCode; }
+    public int size() { return codes.length; }
+    public String code(int ordinal) { return codes[ordinal]; }
+    public double rate(int ordinal) { return rates[ordinal]; }
+
+    public int ordinalOf(String code) {
+        Integer ordinal = ordinals.get(code);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public boolean isCurrent(Instant now) {
+        return now.isBefore(nextUpdateAt);
+    }
+
+    public double crossRate(int from, int to) {
+        return rates[to] / rates[from];
+    }
+
+    public RateSnapshot rebase(String newBaseCode) {
+        if (newBaseCode.equals(baseCode)) {
+            return this;
+        }
+        int base = ordinalOf(newBaseCode);
+        if (base < 0) {
+            throw new ExchangeRateException("No rates available for base " + newBaseCode);
+        }
+        double[] rebased = new double[rates.length];
+        for (int i = 0; i < rates.length; i++) {
+            rebased[i] = rates[i] / rates[base];
+        }
+        return new RateSnapshot(updatedAt, nextUpdateAt, newBaseCode, codes, rebased);
+    }
+
+    public ExchangeRate rate(Currency from, Currency to) {
+        int fromOrdinal = ordinalOf(from.code());
+        int toOrdinal = ordinalOf(to.code());
+        if (fromOrdinal < 0 || toOrdinal < 0) {
+            throw new ExchangeRateException("No rate available for " + from.code() + " to " + to.code());
+        }
+        return new ExchangeRate(date, from, to, crossRate(fromOrdinal, toOrdinal));
+    }
+}
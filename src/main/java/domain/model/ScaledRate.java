@@ -0,0 +1,121 @@
+package domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class ScaledRate {
+    private final Currency from;
+    private final Currency to;
+    private final long unscaled;
+    private final int scale;
+
+    public ScaledRate(Currency from, Currency to, long unscaled, int scale) {
+        if (unscaled <= 0) {
+            throw new IllegalArgumentException("Exchange rate must be positive");
+        }
+        if (scale < 0) {
+            throw new IllegalArgumentException("Rate scale cannot be negative");
+        }
+        this.from = from;
+        this.to = to;
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    public static ScaledRate of(ExchangeRate rate) {
+        BigDecimal decimal = BigDecimal.valueOf(rate.rate()).stripTrailingZeros();
+        if (decimal.scale() < 0) {
+            decimal = decimal.setScale(0);
+        }
+        return new ScaledRate(rate.from(), rate.to(), decimal.unscaledValue().longValueExact(), decimal.scale());
+    }
+
+    public Currency from() { return from; }
+    public Currency to() { return to; }
+    public long unscaled() { return unscaled; }
+    public int scale() { return scale; }
+
+    public double rate() {
+        return BigDecimal.valueOf(unscaled, scale).doubleValue();
+    }
+
+    public long apply(long minorUnits, int fromExponent, int toExponent) {
+        int shift = scale + fromExponent - toExponent;
+        long magnitude = Math.abs(minorUnits);
+        if (magnitude < 0 || !MinorUnits.hasPowerOfTen(Math.abs(shift))) {
+            return applyExact(minorUnits, shift);
+        }
+
+        long high = Math.unsignedMultiplyHigh(magnitude, unscaled);
+        long low = magnitude * unscaled;
+        long divisor = MinorUnits.powerOfTen(Math.abs(shift));
+        long result;
+
+        if (shift <= 0) {
+            if (high != 0 || low < 0) {
+                return applyExact(minorUnits, shift);
+            }
+            result = Math.multiplyExact(low, divisor);
+        } else if (high == 0 && low >= 0) {
+            result = low / divisor;
+            long remainder = low - result * divisor;
+            if (remainder >= divisor - remainder) {
+                result++;
+            }
+        } else if (Long.compareUnsigned(high, divisor) < 0) {
+            result = divideUnsigned(high, low, divisor);
+            long remainder = low - result * divisor;
+            if (Long.compareUnsigned(remainder, divisor - remainder) >= 0) {
+                result++;
+            }
+            if (result < 0) {
+                return applyExact(minorUnits, shift);
+            }
+        } else {
+            return applyExact(minorUnits, shift);
+        }
+        return minorUnits < 0 ? -result : result;
+    }
+
+    private static long divideUnsigned(long high, long low, long divisor) {
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << shift;
+        long vHigh = v >>> 32;
+        long vLow = v & 0xFFFFFFFFL;
+
+        long u32 = shift == 0 ? high : high << shift | low >>> (64 - shift);
+        long u10 = low << shift;
+        long u1 = u10 >>> 32;
+        long u0 = u10 & 0xFFFFFFFFL;
+
+        long q1 = Long.divideUnsigned(u32, vHigh);
+        long rHat = u32 - q1 * vHigh;
+        while (q1 >>> 32 != 0 || Long.compareUnsigned(q1 * vLow, rHat << 32 | u1) > 0) {
+            q1--;
+            rHat += vHigh;
+            if (rHat >>> 32 != 0) {
+                break;
+            }
+        }
+
+        long u21 = (u32 << 32 | u1) - q1 * v;
+        long q0 = Long.divideUnsigned(u21, vHigh);
+        rHat = u21 - q0 * vHigh;
+        while (q0 >>> 32 != 0 || Long.compareUnsigned(q0 * vLow, rHat << 32 | u0) > 0) {
+            q0--;
+            rHat += vHigh;
+            if (rHat >>> 32 != 0) {
+                break;
+            }
+        }
+        return q1 << 32 | q0;
+    }
+
+    private long applyExact(long minorUnits, int shift) {
+        return BigDecimal.valueOf(minorUnits)
+                .multiply(BigDecimal.valueOf(unscaled))
+                .scaleByPowerOfTen(-shift)
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+}
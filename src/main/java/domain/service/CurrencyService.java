@@ -3,30 +3,66 @@ package domain.service;
 import application.port.CurrencyRepository;
 import domain.exception.CurrencyNotFoundException;
 import domain.model.Currency;
+import domain.model.CurrencyRegistry;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class CurrencyService {
     private final CurrencyRepository repository;
-    private List<Currency> cachedCurrencies;
+    private final AtomicReference<CompletableFuture<CurrencyRegistry>> registry = new AtomicReference<>();
 
     public CurrencyService(CurrencyRepository repository) {
         this.repository = repository;
     }
 
     public List<Currency> getAllCurrencies() {
-        if (cachedCurrencies == null) {
-            cachedCurrencies = repository.findAll();
-        }
-        return cachedCurrencies;
+        return registry().currencies();
     }
 
     public Currency getCurrency(String code) {
-        return repository.findByCode(code)
-                .orElseThrow(() -> new CurrencyNotFoundException(code));
+        Currency currency = registry().find(code);
+        if (currency == null) {
+            throw new CurrencyNotFoundException(code);
+        }
+        return currency;
+    }
+
+    public CurrencyRegistry registry() {
+        CompletableFuture<CurrencyRegistry> current = registry.get();
+        if (current == null) {
+            CompletableFuture<CurrencyRegistry> loading = new CompletableFuture<>();
+            current = registry.compareAndExchange(null, loading);
+            if (current == null) {
+                current = loading;
+                try {
+                    loading.complete(repository.registry());
+                } catch (Throwable e) {
+                    registry.compareAndSet(loading, null);
+                    loading.completeExceptionally(e);
+                }
+            }
+        }
+        return await(current);
     }
 
     public void refreshCache() {
-        cachedCurrencies = null;
+        registry.set(null);
+    }
+
+    private static CurrencyRegistry await(CompletableFuture<CurrencyRegistry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
     }
 }
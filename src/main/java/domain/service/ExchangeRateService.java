@@ -3,39 +3,73 @@ package domain.service;
 import application.port.ExchangeRateRepository;
 import domain.model.Currency;
 import domain.model.ExchangeRate;
+import domain.model.RateChange;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Flow;
 
 public class ExchangeRateService {
-    private final ExchangeRateRepository repository;
-    private final Map<String, ExchangeRate> cache;
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final RateCache cache;
 
     public ExchangeRateService(ExchangeRateRepository repository) {
-        this.repository = repository;
-        this.cache = new HashMap<>();
+        this(repository, DEFAULT_TTL, DEFAULT_MAX_SIZE);
+    }
+
+    public ExchangeRateService(ExchangeRateRepository repository, RateCache.Listener listener) {
+        this(repository, DEFAULT_TTL, DEFAULT_MAX_SIZE, listener);
+    }
+
+    public ExchangeRateService(ExchangeRateRepository repository, Duration ttl, int maxSize) {
+        this(repository, ttl, maxSize, RateCache.Listener.NONE);
+    }
+
+    public ExchangeRateService(ExchangeRateRepository repository, Duration ttl, int maxSize,
+                               RateCache.Listener listener) {
+        this.cache = new RateCache(repository, ttl, maxSize, System::nanoTime, listener);
     }
 
     public ExchangeRate getRate(Currency from, Currency to) {
-        String key = from.code() + "-" + to.code();
-        
-        if (cache.containsKey(key)) {
-            ExchangeRate cached = cache.get(key);
-            if (isValid(cached)) {
-                return cached;
-            }
-        }
-        
-        ExchangeRate rate = repository.getExchangeRate(from, to);
-        cache.put(key, rate);
-        return rate;
+        return cache.get(from, to);
     }
 
-    private boolean isValid(ExchangeRate rate) {
-        return rate.date().equals(java.time.LocalDate.now());
+    public RateCache.Stats cacheStats() {
+        return cache.stats();
     }
 
     public void clearCache() {
         cache.clear();
     }
+
+    public void follow(Flow.Publisher<RateChange> changes) {
+        changes.subscribe(new Flow.Subscriber<RateChange>() {
+            private Instant cleared;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(RateChange change) {
+                // One refresh reports many pairs; clear once per published table.
+                if (!change.updatedAt().equals(cleared)) {
+                    cleared = change.updatedAt();
+                    cache.clear();
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                // Entries still expire after the TTL.
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
 }
@@ -0,0 +1,282 @@
+package domain.service;
+
+import application.port.ExchangeRateRepository;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+public class RateCache {
+    private static final int SEGMENTS = 16;
+
+    private final ExchangeRateRepository loader;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final Listener listener;
+    private final Segment[] segments;
+    private final ConcurrentHashMap<Long, CompletableFuture<ExchangeRate>> inFlight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public RateCache(ExchangeRateRepository loader, Duration ttl, int maxSize) {
+        this(loader, ttl, maxSize, System::nanoTime, Listener.NONE);
+    }
+
+    public RateCache(ExchangeRateRepository loader, Duration ttl, int maxSize,
+                     LongSupplier ticker, Listener listener) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        if (maxSize < SEGMENTS) {
+            throw new IllegalArgumentException("Cache size must be at least " + SEGMENTS);
+        }
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.listener = listener;
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maxSize / SEGMENTS);
+        }
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    public ExchangeRate get(Currency from, Currency to) {
+        long key = key(from, to);
+        Segment segment = segmentFor(key);
+        long now = ticker.getAsLong();
+
+        Node node = segment.find(key);
+        if (node != null && node.matches(from, to) && now - node.loadedAt < ttlNanos) {
+            node.lastAccess = now;
+            hits.increment();
+            return node.rate;
+        }
+
+        misses.increment();
+        listener.onMiss(from, to);
+        return load(key, segment, from, to);
+    }
+
+    private ExchangeRate load(long key, Segment segment, Currency from, Currency to) {
+        CompletableFuture<ExchangeRate> flight = new CompletableFuture<>();
+        CompletableFuture<ExchangeRate> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            Node node = segment.find(key);
+            ExchangeRate rate;
+            if (node != null && node.matches(from, to) && ticker.getAsLong() - node.loadedAt < ttlNanos) {
+                rate = node.rate;
+            } else {
+                rate = loader.getExchangeRate(from, to);
+                loads.increment();
+                segment.put(key, rate, ticker.getAsLong());
+            }
+            flight.complete(rate);
+            return rate;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static ExchangeRate await(CompletableFuture<ExchangeRate> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.count;
+        }
+        return size;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), loads.sum(), evictions.sum());
+    }
+
+    static long key(Currency from, Currency to) {
+        return pack(from.code()) << 24 | pack(to.code());
+    }
+
+    private static long pack(String code) {
+        return (code.charAt(0) & 0xFFL) << 16 | (code.charAt(1) & 0xFFL) << 8 | (code.charAt(2) & 0xFFL);
+    }
+
+    private Segment segmentFor(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return segments[(int) (h >>> 60) & (SEGMENTS - 1)];
+    }
+
+    public interface Listener {
+        Listener NONE = (from, to) -> { };
+
+        void onMiss(Currency from, Currency to);
+    }
+
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final long loads;
+        private final long evictions;
+
+        public Stats(long hits, long misses, long loads, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.loads = loads;
+            this.evictions = evictions;
+        }
+
+        public long hits() { return hits; }
+        public long misses() { return misses; }
+        public long loads() { return loads; }
+        public long evictions() { return evictions; }
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + " misses=" + misses + " loads=" + loads + " evictions=" + evictions;
+        }
+    }
+
+    private static final class Node {
+        final long key;
+        final ExchangeRate rate;
+        final long loadedAt;
+        final Node next;
+        volatile long lastAccess;
+
+        Node(long key, ExchangeRate rate, long loadedAt, Node next) {
+            this.key = key;
+            this.rate = rate;
+            this.loadedAt = loadedAt;
+            this.next = next;
+            this.lastAccess = loadedAt;
+        }
+
+        boolean matches(Currency from, Currency to) {
+            return rate.from().equals(from) && rate.to().equals(to);
+        }
+    }
+
+    private final class Segment extends ReentrantLock {
+        private final int capacity;
+        private final AtomicReferenceArray<Node> buckets;
+        private volatile int count;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.buckets = new AtomicReferenceArray<>(Integer.highestOneBit(capacity * 2 - 1));
+        }
+
+        Node find(long key) {
+            for (Node node = buckets.get(index(key)); node != null; node = node.next) {
+                if (node.key == key) {
+                    return node;
+                }
+            }
+            return null;
+        }
+
+        void put(long key, ExchangeRate rate, long now) {
+            lock();
+            try {
+                int index = index(key);
+                boolean replaced = remove(index, key);
+                if (!replaced && count >= capacity) {
+                    evictLeastRecentlyUsed();
+                }
+                buckets.set(index, new Node(key, rate, now, buckets.get(index)));
+                count = replaced ? count : count + 1;
+            } finally {
+                unlock();
+            }
+        }
+
+        void clear() {
+            lock();
+            try {
+                for (int i = 0; i < buckets.length(); i++) {
+                    buckets.set(i, null);
+                }
+                count = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        private void evictLeastRecentlyUsed() {
+            Node victim = null;
+            for (int i = 0; i < buckets.length(); i++) {
+                for (Node node = buckets.get(i); node != null; node = node.next) {
+                    if (victim == null || node.lastAccess < victim.lastAccess) {
+                        victim = node;
+                    }
+                }
+            }
+            if (victim != null && remove(index(victim.key), victim.key)) {
+                count--;
+                evictions.increment();
+            }
+        }
+
+        private boolean remove(int index, long key) {
+            Node head = buckets.get(index);
+            Node target = head;
+            while (target != null && target.key != key) {
+                target = target.next;
+            }
+            if (target == null) {
+                return false;
+            }
+            Node rebuilt = target.next;
+            for (Node node = head; node != target; node = node.next) {
+                Node copy = new Node(node.key, node.rate, node.loadedAt, rebuilt);
+                copy.lastAccess = node.lastAccess;
+                rebuilt = copy;
+            }
+            buckets.set(index, rebuilt);
+            return true;
+        }
+
+        private int index(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h >>> 32) & (buckets.length() - 1);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package domain.service;
+
+import domain.model.Currency;
+import domain.model.RateChange;
+import domain.model.RateSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Diffs each published rate table against the previous one and hands the moved pairs to
+ * subscribers. Every subscription gets its own bounded buffer and honours
+ * {@link Flow.Subscription#request} demand; a subscriber that falls a full buffer behind loses
+ * the newest changes instead of stalling the refresh, and those drops are counted.
+ */
+public class RateChangePublisher implements Flow.Publisher<RateChange>, AutoCloseable {
+    private static final int DEFAULT_BUFFER = 256;
+
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public RateChangePublisher() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER);
+    }
+
+    public RateChangePublisher(Executor executor, int bufferCapacity) {
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super RateChange> subscriber) {
+        subscribe(subscriber, Filter.ALL);
+    }
+
+    public void subscribe(Flow.Subscriber<? super RateChange> subscriber, Filter filter) {
+        SubmissionPublisher<RateChange> channel = new SubmissionPublisher<>(executor, bufferCapacity);
+        channel.subscribe(subscriber);
+        subscriptions.add(new Subscription(filter, channel));
+    }
+
+    public void publish(RateSnapshot previous, RateSnapshot next) {
+        if (previous == null || previous == next || subscriptions.isEmpty()) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.channel().hasSubscribers()) {
+                subscription.channel().close();
+                subscriptions.remove(subscription);
+                continue;
+            }
+            for (RateChange change : subscription.filter().changes(previous, next)) {
+                if (subscription.channel().offer(change, (subscriber, item) -> false) < 0) {
+                    dropped.increment();
+                } else {
+                    published.increment();
+                }
+            }
+        }
+    }
+
+    public int subscriberCount() { return subscriptions.size(); }
+    public long publishedCount() { return published.sum(); }
+    public long droppedCount() { return dropped.sum(); }
+
+    @Override
+    public void close() {
+        subscriptions.forEach(subscription -> subscription.channel().close());
+        subscriptions.clear();
+    }
+
+    private record Subscription(Filter filter, SubmissionPublisher<RateChange> channel) {
+    }
+
+    public static class Filter {
+        public static final Filter ALL = new Filter(List.of(), 0);
+
+        private final List<String[]> pairs;
+        private final double threshold;
+
+        private Filter(List<String[]> pairs, double threshold) {
+            if (threshold < 0) {
+                throw new IllegalArgumentException("Threshold must not be negative");
+            }
+            this.pairs = pairs;
+            this.threshold = threshold;
+        }
+
+        public static Filter pair(Currency from, Currency to) {
+            return ALL.andPair(from, to);
+        }
+
+        public Filter andPair(Currency from, Currency to) {
+            List<String[]> extended = new ArrayList<>(pairs);
+            extended.add(new String[]{from.code(), to.code()});
+            return new Filter(List.copyOf(extended), threshold);
+        }
+
+        /** Only report moves of at least {@code relative} (0.001 = 0.1%) in either direction. */
+        public Filter withThreshold(double relative) {
+            return new Filter(pairs, relative);
+        }
+
+        List<RateChange> changes(RateSnapshot previous, RateSnapshot next) {
+            List<RateChange> changes = new ArrayList<>();
+            if (pairs.isEmpty()) {
+                for (int i = 0; i < next.size(); i++) {
+                    addIfMoved(changes, previous, next, next.baseCode(), next.code(i));
+                }
+            } else {
+                for (String[] pair : pairs) {
+                    addIfMoved(changes, previous, next, pair[0], pair[1]);
+                }
+            }
+            return changes;
+        }
+
+        private void addIfMoved(List<RateChange> changes, RateSnapshot previous, RateSnapshot next,
+                                String from, String to) {
+            int oldFrom = previous.ordinalOf(from);
+            int oldTo = previous.ordinalOf(to);
+            int newFrom = next.ordinalOf(from);
+            int newTo = next.ordinalOf(to);
+            if (oldFrom < 0 || oldTo < 0 || newFrom < 0 || newTo < 0) {
+                return;
+            }
+            double oldRate = previous.crossRate(oldFrom, oldTo);
+            double newRate = next.crossRate(newFrom, newTo);
+            if (oldRate != newRate && Math.abs(newRate / oldRate - 1) >= threshold) {
+                changes.add(new RateChange(from, to, oldRate, newRate, next.updatedAt()));
+            }
+        }
+    }
+}
@@ -1,85 +1,193 @@
 package infrastructure.api;
 
-import com.google.gson.Gson;
+import application.port.AsyncExchangeRateRepository;
 import application.port.CurrencyRepository;
 import application.port.ExchangeRateRepository;
+import application.port.RateSnapshotRepository;
 import domain.exception.ExchangeRateException;
 import domain.model.Currency;
+import domain.model.CurrencyRegistry;
 import domain.model.ExchangeRate;
-import infrastructure.api.dto.CurrencyListResponse;
-import infrastructure.api.dto.ExchangeRateResponse;
+import domain.model.RateSnapshot;
 import infrastructure.config.ApiConfig;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.time.LocalDate;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
-public class ExchangeRateApiClient implements ExchangeRateRepository, CurrencyRepository {
-    private final Gson gson;
-    private static final int TIMEOUT = 5000;
+public class ExchangeRateApiClient
+        implements ExchangeRateRepository, AsyncExchangeRateRepository, CurrencyRepository, RateSnapshotRepository {
+    private final RateJsonDecoder decoder;
+    private final HttpTransport transport;
+    private final String apiUrl;
+    private final RefreshListener listener;
+    private final Map<String, Held> held = new ConcurrentHashMap<>();
+    private final AtomicReference<CurrencyRegistry> registry = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CurrencyRegistry>> refreshing = new AtomicReference<>();
 
     public ExchangeRateApiClient() {
-        this.gson = new Gson();
+        this(ApiConfig.getConnectTimeout(), ApiConfig.getReadTimeout());
+    }
+
+    public ExchangeRateApiClient(Duration connectTimeout, Duration readTimeout) {
+        this(new HttpTransport(connectTimeout, readTimeout));
+    }
+
+    public ExchangeRateApiClient(HttpTransport transport) {
+        this(transport, ApiConfig.getApiUrl());
+    }
+
+    public ExchangeRateApiClient(HttpTransport transport, String apiUrl) {
+        this(transport, apiUrl, RefreshListener.NONE);
+    }
+
+    public ExchangeRateApiClient(HttpTransport transport, String apiUrl, RefreshListener listener) {
+        this.decoder = new RateJsonDecoder();
+        this.transport = transport;
+        this.apiUrl = apiUrl;
+        this.listener = listener;
     }
 
     @Override
     public ExchangeRate getExchangeRate(Currency from, Currency to) {
-        try {
-            String json = fetchData(ApiConfig.getPairUrl(from.code(), to.code()));
-            ExchangeRateResponse response = gson.fromJson(json, ExchangeRateResponse.class);
-            
-            if (!"success".equals(response.getResult())) {
-                throw new ExchangeRateException("API returned error for " + from.code() + " to " + to.code());
-            }
-            
-            return new ExchangeRate(LocalDate.now(), from, to, response.getConversionRate());
-        } catch (IOException e) {
-            throw new ExchangeRateException("Failed to fetch exchange rate", e);
-        }
+        return await(getExchangeRateAsync(from, to));
+    }
+
+    @Override
+    public CompletableFuture<ExchangeRate> getExchangeRateAsync(Currency from, Currency to) {
+        return fetch(apiUrl + "pair/" + from.code() + "/" + to.code(), "Failed to fetch exchange rate",
+                body -> decoder.decodePair(body, from, to));
+    }
+
+    @Override
+    public RateSnapshot getSnapshot(Currency base) {
+        return await(getSnapshotAsync(base));
+    }
+
+    public CompletableFuture<RateSnapshot> getSnapshotAsync(Currency base) {
+        Held previous = held.get(base.code());
+        RateSnapshot previousSnapshot = previous == null ? null : previous.snapshot();
+        HttpTransport.Validators validators = previous == null ? HttpTransport.Validators.NONE : previous.validators();
+        CompletableFuture<HttpTransport.Conditional<RateSnapshot>> exchange = transport
+                .getConditional(apiUrl + "latest/" + base.code(), validators,
+                        body -> decoder.decodeTable(body, base, previousSnapshot));
+        CompletableFuture<RateSnapshot> refreshed = exchange
+                .thenApply(response -> {
+                    RefreshOutcome outcome;
+                    RateSnapshot snapshot;
+                    if (response.notModified()) {
+                        if (previousSnapshot == null) {
+                            throw new ExchangeRateException("Unexpected 304 for unconditional request " + base.code());
+                        }
+                        outcome = RefreshOutcome.NOT_MODIFIED;
+                        snapshot = previousSnapshot;
+                    } else {
+                        snapshot = response.value();
+                        outcome = snapshot == previousSnapshot ? RefreshOutcome.UNCHANGED : RefreshOutcome.UPDATED;
+                    }
+                    held.put(base.code(), new Held(snapshot, validatorsFor(response.validators(), snapshot)));
+                    listener.onRefresh(base, outcome, response.bytes(), response.decodeNanos());
+                    return snapshot;
+                });
+        HttpTransport.cancelling(refreshed, exchange);
+        return translate(refreshed, "Failed to fetch exchange rates for " + base.code());
+    }
+
+    public CompletableFuture<List<Currency>> getCurrenciesAsync() {
+        return fetch(apiUrl + "codes", "Failed to fetch currencies", decoder::decodeCurrencies);
     }
 
     @Override
     public List<Currency> findAll() {
-        try {
-            String json = fetchData(ApiConfig.getCodesUrl());
-            CurrencyListResponse response = gson.fromJson(json, CurrencyListResponse.class);
-            
-            return response.getSupportedCodes().stream()
-                    .map(tuple -> new Currency(tuple.get(0), tuple.get(1)))
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new ExchangeRateException("Failed to fetch currencies", e);
-        }
+        return refreshRegistry().currencies();
     }
 
     @Override
     public Optional<Currency> findByCode(String code) {
-        return findAll().stream()
-                .filter(currency -> currency.code().equalsIgnoreCase(code))
-                .findFirst();
+        return Optional.ofNullable(registry().find(code));
     }
 
-    private String fetchData(String urlString) throws IOException {
-        URL url = new URL(urlString);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
-        connection.setConnectTimeout(TIMEOUT);
-        connection.setReadTimeout(TIMEOUT);
+    @Override
+    public CurrencyRegistry registry() {
+        CurrencyRegistry current = registry.get();
+        return current != null ? current : refreshRegistry();
+    }
 
-        int responseCode = connection.getResponseCode();
-        if (responseCode != HttpURLConnection.HTTP_OK) {
-            throw new IOException("HTTP error code: " + responseCode);
+    private CurrencyRegistry refreshRegistry() {
+        CompletableFuture<CurrencyRegistry> flight = new CompletableFuture<>();
+        CompletableFuture<CurrencyRegistry> existing = refreshing.compareAndExchange(null, flight);
+        if (existing != null) {
+            return await(existing);
         }
-
-        try (InputStream is = connection.getInputStream()) {
-            return new String(is.readAllBytes());
+        try {
+            List<Currency> fetched = await(getCurrenciesAsync());
+            CurrencyRegistry refreshed = registry.updateAndGet(current -> current == null
+                    ? new CurrencyRegistry(fetched)
+                    : current.withAll(fetched));
+            flight.complete(refreshed);
+            return refreshed;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
         } finally {
-            connection.disconnect();
+            refreshing.compareAndSet(flight, null);
+        }
+    }
+
+    private <T> CompletableFuture<T> fetch(String url, String failure, HttpTransport.BodyParser<T> parser) {
+        return translate(transport.get(url, parser), failure);
+    }
+
+    private static <T> CompletableFuture<T> translate(CompletableFuture<T> future, String failure) {
+        return HttpTransport.cancelling(future.handle((value, error) -> {
+            if (error == null) {
+                return value;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (cause instanceof ExchangeRateException e) {
+                throw e;
+            }
+            throw new ExchangeRateException(failure, cause);
+        }), future);
+    }
+
+    private static HttpTransport.Validators validatorsFor(HttpTransport.Validators received, RateSnapshot snapshot) {
+        if (received.lastModified() != null) {
+            return received;
         }
+        String providerTimestamp = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                snapshot.updatedAt().atOffset(ZoneOffset.UTC));
+        return new HttpTransport.Validators(received.etag(), providerTimestamp);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ExchangeRateException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public enum RefreshOutcome { UPDATED, UNCHANGED, NOT_MODIFIED }
+
+    public interface RefreshListener {
+        RefreshListener NONE = (base, outcome, bytes, decodeNanos) -> { };
+
+        void onRefresh(Currency base, RefreshOutcome outcome, long bytes, long decodeNanos);
+    }
+
+    private record Held(RateSnapshot snapshot, HttpTransport.Validators validators) {
     }
 }
@@ -0,0 +1,14 @@
+package infrastructure.api;
+
+import java.io.IOException;
+
+public class HttpStatusException extends IOException {
+    private final int statusCode;
+
+    public HttpStatusException(int statusCode) {
+        super("HTTP error code: " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    public int statusCode() { return statusCode; }
+}
@@ -0,0 +1,236 @@
+package infrastructure.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+public class HttpTransport {
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int DRAIN_LIMIT = 64 * 1024;
+    private static final Executor DEFAULT_BODY_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    private static final ScheduledExecutorService DEADLINES = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "http-body-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final HttpClient client;
+    private final Duration readTimeout;
+    private final Executor bodyExecutor;
+
+    public HttpTransport(Duration connectTimeout, Duration readTimeout) {
+        this(connectTimeout, readTimeout, DEFAULT_BODY_EXECUTOR);
+    }
+
+    public HttpTransport(Duration connectTimeout, Duration readTimeout, Executor bodyExecutor) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.readTimeout = readTimeout;
+        this.bodyExecutor = bodyExecutor;
+    }
+
+    public <T> CompletableFuture<T> get(String url, BodyParser<T> parser) {
+        return get(url, "application/json", parser);
+    }
+
+    public <T> CompletableFuture<T> get(String url, String accept, BodyParser<T> parser) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header("Accept", accept)
+                .GET()
+                .build();
+
+        return exchange(request, response -> readBody(response.body(), body -> {
+            if (response.statusCode() != HTTP_OK) {
+                throw new HttpStatusException(response.statusCode());
+            }
+            return parser.parse(body);
+        }));
+    }
+
+    /**
+     * Sends {@code If-None-Match}/{@code If-Modified-Since} from {@code validators} and completes
+     * with {@link Conditional#notModified()} on a 304 without invoking the parser.
+     */
+    public <T> CompletableFuture<Conditional<T>> getConditional(String url, Validators validators,
+                                                                BodyParser<T> parser) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .GET();
+        if (validators.etag() != null) {
+            builder.header("If-None-Match", validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            builder.header("If-Modified-Since", validators.lastModified());
+        }
+
+        return exchange(builder.build(), response -> readBody(response.body(), stream -> {
+            CountingInputStream body = new CountingInputStream(stream);
+            Validators received = new Validators(
+                    response.headers().firstValue("ETag").orElse(validators.etag()),
+                    response.headers().firstValue("Last-Modified").orElse(validators.lastModified()));
+            if (response.statusCode() == HTTP_NOT_MODIFIED) {
+                return new Conditional<T>(null, received, true, 0, 0);
+            }
+            if (response.statusCode() != HTTP_OK) {
+                throw new HttpStatusException(response.statusCode());
+            }
+            long start = System.nanoTime();
+            T value = parser.parse(body);
+            return new Conditional<>(value, received, false, body.count(), System.nanoTime() - start);
+        }));
+    }
+
+    /**
+     * Cancels {@code upstream} once {@code derived} is cancelled. Stages built with thenApply or
+     * handle do not pass cancellation back, so providers link each stage to the transport future.
+     */
+    public static <T> CompletableFuture<T> cancelling(CompletableFuture<T> derived, CompletableFuture<?> upstream) {
+        derived.whenComplete((value, error) -> {
+            if (derived.isCancelled()) {
+                upstream.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * Cancelling the returned future aborts the exchange: before headers arrive the HttpClient
+     * request is cancelled, afterwards the body stream is closed so the reader stops.
+     */
+    private <T> CompletableFuture<T> exchange(HttpRequest request, Function<HttpResponse<InputStream>, T> handler) {
+        CompletableFuture<HttpResponse<InputStream>> sent =
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        CompletableFuture<T> result = sent.thenApplyAsync(handler, bodyExecutor);
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                sent.cancel(true);
+                sent.thenAccept(response -> closeQuietly(response.body()));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * {@link HttpRequest#timeout} only bounds the wait for headers, so the body gets its own
+     * deadline: when it passes the stream is closed, which unblocks the reader. Whatever the
+     * parser leaves unread is drained so the connection can be reused.
+     */
+    private <T> T readBody(InputStream body, BodyParser<T> parser) {
+        AtomicBoolean expired = new AtomicBoolean();
+        ScheduledFuture<?> deadline = DEADLINES.schedule(() -> {
+            expired.set(true);
+            closeQuietly(body);
+        }, readTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        try (body) {
+            T value = parser.parse(new FilterInputStream(body) {
+                @Override
+                public void close() {
+                    // Parsers close their readers early; the transport drains and closes the body.
+                }
+            });
+            drain(body);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            if (expired.get()) {
+                throw new UncheckedIOException(
+                        new HttpTimeoutException("Response body not received within " + readTimeout));
+            }
+            if (e instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            throw (RuntimeException) e;
+        } finally {
+            deadline.cancel(false);
+        }
+    }
+
+    private static void drain(InputStream body) throws IOException {
+        byte[] buffer = new byte[8192];
+        int drained = 0;
+        int read;
+        while (drained < DRAIN_LIMIT && (read = body.read(buffer)) >= 0) {
+            drained += read;
+        }
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            // The reader sees the closed stream and reports the timeout.
+        }
+    }
+
+    public record Validators(String etag, String lastModified) {
+        public static final Validators NONE = new Validators(null, null);
+    }
+
+    /**
+     * Outcome of a conditional GET. {@code bytes} counts body bytes actually read, so a parser
+     * that stops early reports less than the full payload; {@code decodeNanos} covers the parse.
+     */
+    public record Conditional<T>(T value, Validators validators, boolean notModified,
+                                 long bytes, long decodeNanos) {
+    }
+
+    @FunctionalInterface
+    public interface BodyParser<T> {
+        T parse(InputStream body) throws IOException;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() { return count; }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package infrastructure.api;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RateJsonDecoder {
+    private static final String SUCCESS = "success";
+
+    public ExchangeRate decodePair(InputStream body, Currency from, Currency to) throws IOException {
+        String result = null;
+        double rate = Double.NaN;
+        LocalDate date = null;
+
+        try (JsonReader reader = open(body)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "result" -> result = reader.nextString();
+                    case "conversion_rate" -> rate = reader.nextDouble();
+                    case "time_last_update_unix" -> date = utcDate(reader.nextLong());
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        if (!SUCCESS.equals(result) || Double.isNaN(rate)) {
+            throw new ExchangeRateException("API returned error for " + from.code() + " to " + to.code());
+        }
+        return new ExchangeRate(date != null ? date : LocalDate.now(), from, to, rate);
+    }
+
+    public RateSnapshot decodeTable(InputStream body, Currency base) throws IOException {
+        return decodeTable(body, base, null);
+    }
+
+    /**
+     * Decodes a latest-rates table, returning {@code held} as soon as the payload's
+     * {@code time_last_update_unix} shows it carries the same publication.
+     */
+    public RateSnapshot decodeTable(InputStream body, Currency base, RateSnapshot held) throws IOException {
+        String result = null;
+        String baseCode = base.code();
+        long updated = -1;
+        long nextUpdate = -1;
+        String[] codes = new String[0];
+        double[] rates = new double[0];
+        int size = 0;
+
+        try (JsonReader reader = open(body)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "result" -> result = reader.nextString();
+                    case "base_code" -> baseCode = reader.nextString();
+                    case "time_last_update_unix" -> {
+                        updated = reader.nextLong();
+                        if (SUCCESS.equals(result) && isSamePublication(held, base, updated)) {
+                            return held;
+                        }
+                    }
+                    case "time_next_update_unix" -> nextUpdate = reader.nextLong();
+                    case "conversion_rates" -> {
+                        if (isSamePublication(held, base, updated)) {
+                            reader.skipValue();
+                            break;
+                        }
+                        codes = new String[192];
+                        rates = new double[192];
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            if (size == codes.length) {
+                                codes = Arrays.copyOf(codes, size * 2);
+                                rates = Arrays.copyOf(rates, size * 2);
+                            }
+                            codes[size] = reader.nextName();
+                            rates[size++] = reader.nextDouble();
+                        }
+                        reader.endObject();
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        if (!SUCCESS.equals(result)) {
+            throw new ExchangeRateException("API returned error for base " + base.code());
+        }
+        if (isSamePublication(held, base, updated)) {
+            return held;
+        }
+        if (updated < 0) {
+            return new RateSnapshot(LocalDate.now(ZoneOffset.UTC), baseCode,
+                    Arrays.copyOf(codes, size), Arrays.copyOf(rates, size));
+        }
+        Instant updatedAt = Instant.ofEpochSecond(updated);
+        Instant nextUpdateAt = nextUpdate > updated
+                ? Instant.ofEpochSecond(nextUpdate)
+                : updatedAt.plus(Duration.ofDays(1));
+        return new RateSnapshot(updatedAt, nextUpdateAt, baseCode,
+                Arrays.copyOf(codes, size), Arrays.copyOf(rates, size));
+    }
+
+    public List<Currency> decodeCurrencies(InputStream body) throws IOException {
+        String result = null;
+        List<Currency> currencies = new ArrayList<>(192);
+
+        try (JsonReader reader = open(body)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "result" -> result = reader.nextString();
+                    case "supported_codes" -> {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            reader.beginArray();
+                            String code = reader.nextString();
+                            String name = reader.nextString();
+                            while (reader.peek() != JsonToken.END_ARRAY) {
+                                reader.skipValue();
+                            }
+                            reader.endArray();
+                            currencies.add(new Currency(code, name));
+                        }
+                        reader.endArray();
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        if (!SUCCESS.equals(result)) {
+            throw new ExchangeRateException("API returned error for currency list");
+        }
+        return currencies;
+    }
+
+    private static boolean isSamePublication(RateSnapshot held, Currency base, long updated) {
+        return held != null && updated >= 0
+                && held.baseCode().equals(base.code())
+                && held.updatedAt().getEpochSecond() == updated;
+    }
+
+    private static LocalDate utcDate(long epochSecond) {
+        return LocalDate.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+    }
+
+    private static JsonReader open(InputStream body) {
+        return new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+}
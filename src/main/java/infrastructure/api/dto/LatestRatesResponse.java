@@ -0,0 +1,23 @@
+package infrastructure.api.dto;
+
+import com.google.gson.annotations.SerializedName;
+import java.util.Map;
+
+public class LatestRatesResponse {
+    @SerializedName("result")
+    private String result;
+
+    @SerializedName("base_code")
+    private String baseCode;
+
+    @SerializedName("conversion_rates")
+    private Map<String, Double> conversionRates;
+
+    @SerializedName("time_last_update_utc")
+    private String timeLastUpdate;
+
+    public String getResult() { return result; }
+    public String getBaseCode() { return baseCode; }
+    public Map<String, Double> getConversionRates() { return conversionRates; }
+    public String getTimeLastUpdate() { return timeLastUpdate; }
+}
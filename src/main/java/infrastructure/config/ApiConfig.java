@@ -1,18 +1,191 @@
 package infrastructure.config;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
 public class ApiConfig {
-    private static final String API_KEY = "aeb1cd5ef6081142040d717f";
-    private static final String BASE_URL = "https://v6.exchangerate-api.com/v6/";
-    
+    private static final String DEFAULTS_RESOURCE = "/moneycalculator.properties";
+    private static final String CONFIG_FILE_PROPERTY = "moneycalculator.config";
+    private static final String SYSTEM_PREFIX = "moneycalculator.";
+    private static final String ENV_PREFIX = "MONEYCALCULATOR_";
+    private static final String DEFAULT_PROVIDER = "provider.exchangerate-api.";
+
+    private static volatile ApiConfig defaults;
+
+    private final Properties properties;
+
+    public ApiConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static ApiConfig defaults() {
+        ApiConfig current = defaults;
+        if (current == null) {
+            synchronized (ApiConfig.class) {
+                current = defaults;
+                if (current == null) {
+                    current = load(System.getenv(), System.getProperties());
+                    defaults = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public static ApiConfig load(Map<String, String> environment, Properties system) {
+        Properties properties = new Properties();
+        try (InputStream in = ApiConfig.class.getResourceAsStream(DEFAULTS_RESOURCE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + DEFAULTS_RESOURCE, e);
+        }
+
+        String configured = system.getProperty(CONFIG_FILE_PROPERTY);
+        Path file = configured != null
+                ? Path.of(configured)
+                : Path.of(System.getProperty("user.home"), ".moneycalculator", "config.properties");
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read configuration " + file, e);
+            }
+        }
+
+        for (String key : properties.stringPropertyNames()) {
+            String value = environment.get(ENV_PREFIX + key.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "_"));
+            if (value != null) {
+                properties.setProperty(key, value);
+            }
+        }
+        for (String key : system.stringPropertyNames()) {
+            if (key.startsWith(SYSTEM_PREFIX) && !key.equals(CONFIG_FILE_PROPERTY)) {
+                properties.setProperty(key.substring(SYSTEM_PREFIX.length()), system.getProperty(key));
+            }
+        }
+        return new ApiConfig(properties);
+    }
+
+    public ApiConfig section(String prefix) {
+        Properties section = new Properties();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                section.setProperty(key.substring(prefix.length()), properties.getProperty(key));
+            }
+        }
+        return new ApiConfig(section);
+    }
+
+    public String get(String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Missing configuration property: " + key);
+        }
+        return value.strip();
+    }
+
+    public String get(String key, String fallback) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? fallback : value.strip();
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(get(key));
+    }
+
+    public double getDouble(String key) {
+        return Double.parseDouble(get(key));
+    }
+
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(get(key, "false"));
+    }
+
+    public Duration getDuration(String key) {
+        return parseDuration(key, get(key));
+    }
+
+    public Duration getDuration(String key, Duration fallback) {
+        String value = get(key, null);
+        return value == null ? fallback : parseDuration(key, value);
+    }
+
+    public List<String> getList(String key) {
+        return Arrays.stream(get(key, "").split(","))
+                .map(String::strip)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+
+    public Path getPath(String key) {
+        String value = get(key);
+        if (value.startsWith("~/")) {
+            return Path.of(System.getProperty("user.home"), value.substring(2));
+        }
+        return Path.of(value);
+    }
+
+    private static Duration parseDuration(String key, String value) {
+        try {
+            if (value.startsWith("P") || value.startsWith("p")) {
+                return Duration.parse(value);
+            }
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).strip()));
+            }
+            long amount = Long.parseLong(value.substring(0, value.length() - 1).strip());
+            return switch (value.charAt(value.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                default -> throw new IllegalArgumentException();
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Invalid duration for " + key + ": " + value);
+        }
+    }
+
+    public static Duration getConnectTimeout() {
+        return defaults().getDuration("http.connectTimeout");
+    }
+
+    public static Duration getReadTimeout() {
+        return defaults().getDuration("http.readTimeout");
+    }
+
+    public static int getRateLimitBurst() {
+        return defaults().getInt("rateLimit.burst");
+    }
+
+    public static double getRateLimitPerSecond() {
+        return defaults().getDouble("rateLimit.perSecond");
+    }
+
     public static String getApiUrl() {
-        return BASE_URL + API_KEY + "/";
+        ApiConfig provider = defaults().section(DEFAULT_PROVIDER);
+        return provider.get("baseUrl") + provider.get("apiKey") + "/";
     }
-    
+
     public static String getCodesUrl() {
         return getApiUrl() + "codes";
     }
-    
+
     public static String getPairUrl(String from, String to) {
         return getApiUrl() + "pair/" + from + "/" + to;
     }
+
+    public static String getLatestUrl(String base) {
+        return getApiUrl() + "latest/" + base;
+    }
 }
@@ -0,0 +1,434 @@
+package infrastructure.csv;
+
+import application.usecase.ExchangeMoneyUseCase;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.MinorUnits;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class CsvConversionPipeline {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final String AMOUNT_COLUMN = "amount";
+    private static final String CURRENCY_COLUMN = "currency";
+    private static final byte[] HEADER_SUFFIX = ",converted_amount,converted_currency".getBytes(StandardCharsets.US_ASCII);
+
+    private final ExchangeMoneyUseCase useCase;
+    private final CurrencyRegistry currencies;
+    private final int targetOrdinal;
+    private final byte[] targetCode;
+    private final int targetExponent;
+    private final int[] exponents;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final Executor executor;
+
+    public CsvConversionPipeline(ExchangeMoneyUseCase useCase, CurrencyRegistry currencies, Currency target) {
+        this(useCase, currencies, target, DEFAULT_CHUNK_SIZE,
+                2 * Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+    }
+
+    public CsvConversionPipeline(ExchangeMoneyUseCase useCase, CurrencyRegistry currencies, Currency target,
+                                 int chunkSize, int maxInFlight, Executor executor) {
+        this.useCase = useCase;
+        this.currencies = currencies;
+        this.targetOrdinal = currencies.ordinalOf(target);
+        if (targetOrdinal < 0) {
+            throw new IllegalArgumentException("Unknown target currency: " + target.code());
+        }
+        this.targetCode = target.code().getBytes(StandardCharsets.US_ASCII);
+        this.targetExponent = MinorUnits.exponent(target);
+        this.exponents = new int[currencies.size()];
+        for (int i = 0; i < exponents.length; i++) {
+            exponents[i] = MinorUnits.exponent(currencies.get(i));
+        }
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.executor = executor;
+    }
+
+    public long run(Path input, Path output) throws IOException {
+        Path directory = output.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, output.getFileName().toString(), ".tmp");
+        try {
+            long rows;
+            try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                rows = run(in, out);
+            }
+            // A bad row aborts the run; only a complete conversion replaces the output file.
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rows;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public long run(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        ArrayDeque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+        byte[] leftover = new byte[0];
+        int[] columns = null;
+        long offset = 0;
+        long rows = 0;
+
+        try {
+            boolean eof = false;
+            while (!eof) {
+                byte[] buffer = Arrays.copyOf(leftover, leftover.length + chunkSize);
+                int limit = leftover.length + readFully(in, ByteBuffer.wrap(buffer, leftover.length, chunkSize));
+                eof = limit < buffer.length;
+
+                int end = eof ? limit : lastNewline(buffer, limit) + 1;
+                int start = 0;
+                if (columns == null) {
+                    int headerEnd = end == 0 ? -1 : nextNewline(buffer, 0, end);
+                    if (headerEnd < 0 && !eof) {
+                        leftover = Arrays.copyOf(buffer, limit);
+                        continue;
+                    }
+                    headerEnd = headerEnd < 0 ? end : headerEnd;
+                    columns = header(buffer, 0, headerEnd);
+                    writeFully(out, header(buffer, headerEnd));
+                    start = Math.min(headerEnd + 1, end);
+                }
+
+                leftover = Arrays.copyOfRange(buffer, end, limit);
+                if (end > start) {
+                    int[] columnIndices = columns;
+                    long chunkOffset = offset + start;
+                    int from = start;
+                    pending.add(CompletableFuture.supplyAsync(
+                            () -> convert(buffer, from, end, columnIndices, chunkOffset), executor));
+                }
+                offset += end;
+
+                while (pending.size() >= maxInFlight) {
+                    rows += write(out, pending.poll());
+                }
+            }
+            while (!pending.isEmpty()) {
+                rows += write(out, pending.poll());
+            }
+            return rows;
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private static int write(WritableByteChannel out, CompletableFuture<Chunk> future) throws IOException {
+        Chunk chunk;
+        try {
+            chunk = future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        writeFully(out, ByteBuffer.wrap(chunk.bytes(), 0, chunk.length()));
+        return chunk.rows();
+    }
+
+    private Chunk convert(byte[] buffer, int start, int end, int[] columns, long offset) {
+        int rows = 0;
+        for (int line = start; line < end; ) {
+            int next = nextNewline(buffer, line, end);
+            int lineEnd = next < 0 ? end : next;
+            if (trimCarriageReturn(buffer, line, lineEnd) > line) {
+                rows++;
+            }
+            line = lineEnd + 1;
+        }
+
+        int[] lineStarts = new int[rows];
+        int[] lineEnds = new int[rows];
+        long[] minorUnits = new long[rows];
+        int[] sources = new int[rows];
+        int[] targets = new int[rows];
+        long[] converted = new long[rows];
+        Arrays.fill(targets, targetOrdinal);
+
+        AsciiSlice code = new AsciiSlice(buffer);
+        int[] field = new int[4];
+        int row = 0;
+        for (int line = start; line < end; ) {
+            int next = nextNewline(buffer, line, end);
+            int lineEnd = trimCarriageReturn(buffer, line, next < 0 ? end : next);
+            if (lineEnd > line) {
+                if (!locate(buffer, line, lineEnd, columns, field)) {
+                    throw invalidRow(buffer, line, lineEnd, offset + line - start, "missing columns");
+                }
+                int ordinal = currencies.ordinalOf(code.of(field[2], field[3]));
+                if (ordinal < 0) {
+                    throw invalidRow(buffer, line, lineEnd, offset + line - start, "unknown currency");
+                }
+                lineStarts[row] = line;
+                lineEnds[row] = lineEnd;
+                sources[row] = ordinal;
+                minorUnits[row] = parseMinorUnits(buffer, field[0], field[1], exponents[ordinal],
+                        line, lineEnd, offset + line - start);
+                row++;
+            }
+            line = (next < 0 ? end : next) + 1;
+        }
+
+        useCase.executeBatch(currencies, minorUnits, sources, targets, converted);
+
+        byte[] output = new byte[end - start + rows * (HEADER_SUFFIX.length + targetCode.length)];
+        int length = 0;
+        for (int i = 0; i < rows; i++) {
+            int lineLength = lineEnds[i] - lineStarts[i];
+            output = ensureCapacity(output, length + lineLength + 32 + targetCode.length);
+            System.arraycopy(buffer, lineStarts[i], output, length, lineLength);
+            length += lineLength;
+            output[length++] = ',';
+            length = formatMinorUnits(converted[i], targetExponent, output, length);
+            output[length++] = ',';
+            System.arraycopy(targetCode, 0, output, length, targetCode.length);
+            length += targetCode.length;
+            output[length++] = '\n';
+        }
+        return new Chunk(output, length, rows);
+    }
+
+    private static int[] header(byte[] buffer, int start, int end) {
+        String[] names = new String(buffer, start, trimCarriageReturn(buffer, start, end) - start,
+                StandardCharsets.UTF_8).split(",", -1);
+        int amount = -1;
+        int currency = -1;
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].strip().replace("\"", "");
+            if (name.equalsIgnoreCase(AMOUNT_COLUMN)) {
+                amount = i;
+            } else if (name.equalsIgnoreCase(CURRENCY_COLUMN)) {
+                currency = i;
+            }
+        }
+        if (amount < 0 || currency < 0) {
+            throw new IllegalArgumentException("CSV header must contain '" + AMOUNT_COLUMN
+                    + "' and '" + CURRENCY_COLUMN + "' columns");
+        }
+        return new int[] {amount, currency};
+    }
+
+    private static ByteBuffer header(byte[] buffer, int end) {
+        int length = trimCarriageReturn(buffer, 0, end);
+        ByteBuffer header = ByteBuffer.allocate(length + HEADER_SUFFIX.length + 1);
+        header.put(buffer, 0, length).put(HEADER_SUFFIX).put((byte) '\n');
+        return header.flip();
+    }
+
+    private static boolean locate(byte[] buffer, int start, int end, int[] columns, int[] field) {
+        int found = 0;
+        int column = 0;
+        int fieldStart = start;
+        boolean quoted = false;
+        for (int i = start; i <= end; i++) {
+            if (i < end && buffer[i] == '"') {
+                quoted = !quoted;
+            } else if (i == end || (buffer[i] == ',' && !quoted)) {
+                if (column == columns[0]) {
+                    field[0] = fieldStart;
+                    field[1] = i;
+                    found++;
+                } else if (column == columns[1]) {
+                    field[2] = fieldStart;
+                    field[3] = i;
+                    found++;
+                }
+                column++;
+                fieldStart = i + 1;
+            }
+        }
+        if (found < 2) {
+            return false;
+        }
+        unquote(buffer, field, 0);
+        unquote(buffer, field, 2);
+        return true;
+    }
+
+    private static void unquote(byte[] buffer, int[] field, int index) {
+        int start = field[index];
+        int end = field[index + 1];
+        while (start < end && (buffer[start] == ' ' || buffer[start] == '"')) start++;
+        while (end > start && (buffer[end - 1] == ' ' || buffer[end - 1] == '"')) end--;
+        field[index] = start;
+        field[index + 1] = end;
+    }
+
+    private static long parseMinorUnits(byte[] buffer, int start, int end, int exponent,
+                                        int line, int lineEnd, long offset) {
+        if (start < end && buffer[start] == '-') {
+            throw invalidRow(buffer, line, lineEnd, offset, "negative amount");
+        }
+        int i = start < end && buffer[start] == '+' ? start + 1 : start;
+        long value = 0;
+        int decimals = -1;
+        boolean digits = false;
+        boolean roundUp = false;
+        for (; i < end; i++) {
+            byte b = buffer[i];
+            if (b == '.' && decimals < 0) {
+                decimals = 0;
+                continue;
+            }
+            // Commas only survive field splitting inside quotes, as in "1,000.00".
+            if (b == ',' && decimals < 0 && digits && i + 1 < end && buffer[i + 1] >= '0' && buffer[i + 1] <= '9') {
+                continue;
+            }
+            if (b < '0' || b > '9') {
+                throw invalidRow(buffer, line, lineEnd, offset, "invalid amount");
+            }
+            digits = true;
+            if (decimals >= exponent) {
+                if (decimals == exponent) {
+                    roundUp = b >= '5';
+                }
+                decimals++;
+                continue;
+            }
+            if (value > (Long.MAX_VALUE - 9) / 10) {
+                throw invalidRow(buffer, line, lineEnd, offset, "amount out of range");
+            }
+            value = value * 10 + (b - '0');
+            if (decimals >= 0) {
+                decimals++;
+            }
+        }
+        if (!digits) {
+            throw invalidRow(buffer, line, lineEnd, offset, "invalid amount");
+        }
+        for (int scale = Math.max(decimals, 0); scale < exponent; scale++) {
+            if (value > Long.MAX_VALUE / 10) {
+                throw invalidRow(buffer, line, lineEnd, offset, "amount out of range");
+            }
+            value *= 10;
+        }
+        if (roundUp) {
+            value++;
+        }
+        return value;
+    }
+
+    private static int formatMinorUnits(long value, int exponent, byte[] output, int position) {
+        long magnitude = value;
+        int digits = 1;
+        for (long rest = magnitude / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        digits = Math.max(digits, exponent + 1);
+        int length = exponent > 0 ? digits + 1 : digits;
+        int cursor = position + length;
+        for (int i = 0; i < digits; i++) {
+            if (exponent > 0 && i == exponent) {
+                output[--cursor] = '.';
+            }
+            output[--cursor] = (byte) ('0' + magnitude % 10);
+            magnitude /= 10;
+        }
+        return position + length;
+    }
+
+    private static IllegalArgumentException invalidRow(byte[] buffer, int start, int end, long offset, String reason) {
+        return new IllegalArgumentException("Invalid CSV row at byte " + offset + " (" + reason + "): "
+                + new String(buffer, start, end - start, StandardCharsets.UTF_8));
+    }
+
+    private static int nextNewline(byte[] buffer, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastNewline(byte[] buffer, int limit) {
+        for (int i = limit - 1; i >= 0; i--) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int trimCarriageReturn(byte[] buffer, int start, int end) {
+        return end > start && buffer[end - 1] == '\r' ? end - 1 : end;
+    }
+
+    private static byte[] ensureCapacity(byte[] output, int required) {
+        return required <= output.length ? output : Arrays.copyOf(output, Math.max(required, output.length * 2));
+    }
+
+    private static int readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (out.write(buffer) < 0) {
+                throw new EOFException("Output channel closed");
+            }
+        }
+    }
+
+    private record Chunk(byte[] bytes, int length, int rows) {
+    }
+
+    private static final class AsciiSlice implements CharSequence {
+        private final byte[] buffer;
+        private int start;
+        private int end;
+
+        AsciiSlice(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        AsciiSlice of(int start, int end) {
+            this.start = start;
+            this.end = end;
+            return this;
+        }
+
+        @Override
+        public int length() { return end - start; }
+
+        @Override
+        public char charAt(int index) { return (char) (buffer[start + index] & 0xFF); }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new String(buffer, start + from, to - from, StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, start, end - start, StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package infrastructure.history;
+
+import application.port.HistoricalExchangeRateRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.ExchangeRate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RateHistory implements HistoricalExchangeRateRepository {
+    private final Map<Integer, RateSeries> series;
+
+    private RateHistory(Map<Integer, RateSeries> series) {
+        this.series = series;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int pairs() { return series.size(); }
+
+    public RateSeries series(String from, String to) {
+        return series.get(pairKey(from, to));
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to, LocalDate date) {
+        int epochDay = (int) date.toEpochDay();
+
+        RateSeries direct = series(from.code(), to.code());
+        int index = direct == null ? -1 : direct.indexAsOf(epochDay);
+        if (index >= 0) {
+            return new ExchangeRate(LocalDate.ofEpochDay(direct.epochDay(index)), from, to, direct.rate(index));
+        }
+
+        RateSeries inverse = series(to.code(), from.code());
+        index = inverse == null ? -1 : inverse.indexAsOf(epochDay);
+        if (index >= 0) {
+            return new ExchangeRate(LocalDate.ofEpochDay(inverse.epochDay(index)), from, to, 1.0 / inverse.rate(index));
+        }
+
+        throw new ExchangeRateException("No rate for " + from.code() + " to " + to.code() + " as of " + date);
+    }
+
+    public List<ExchangeRate> getExchangeRates(Currency from, Currency to, LocalDate start, LocalDate end) {
+        List<ExchangeRate> rates = new ArrayList<>();
+        int startDay = (int) start.toEpochDay();
+        int endDay = (int) end.toEpochDay();
+
+        RateSeries direct = series(from.code(), to.code());
+        if (direct != null) {
+            direct.forEach(startDay, endDay, (day, rate) ->
+                    rates.add(new ExchangeRate(LocalDate.ofEpochDay(day), from, to, rate)));
+            return rates;
+        }
+
+        RateSeries inverse = series(to.code(), from.code());
+        if (inverse != null) {
+            inverse.forEach(startDay, endDay, (day, rate) ->
+                    rates.add(new ExchangeRate(LocalDate.ofEpochDay(day), from, to, 1.0 / rate)));
+        }
+        return rates;
+    }
+
+    private static int pairKey(String from, String to) {
+        int fromSlot = CurrencyRegistry.slot(from);
+        int toSlot = CurrencyRegistry.slot(to);
+        if (fromSlot < 0 || toSlot < 0) {
+            return -1;
+        }
+        return fromSlot * (26 * 26 * 26) + toSlot;
+    }
+
+    public static class Builder {
+        private final Map<Integer, RateSeries.Builder> series = new HashMap<>();
+
+        public Builder add(String from, String to, LocalDate date, double rate) {
+            return add(from, to, (int) date.toEpochDay(), rate);
+        }
+
+        public Builder add(String from, String to, int epochDay, double rate) {
+            int key = pairKey(from, to);
+            if (key < 0) {
+                throw new IllegalArgumentException("Invalid currency pair: " + from + "/" + to);
+            }
+            if (!(rate > 0)) {
+                throw new IllegalArgumentException("Exchange rate must be positive");
+            }
+            series.computeIfAbsent(key, k -> new RateSeries.Builder()).add(epochDay, rate);
+            return this;
+        }
+
+        public RateHistory build() {
+            Map<Integer, RateSeries> built = new HashMap<>(series.size() * 2);
+            series.forEach((key, builder) -> built.put(key, builder.build()));
+            return new RateHistory(built);
+        }
+    }
+}
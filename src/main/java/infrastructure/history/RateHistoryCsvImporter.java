@@ -0,0 +1,49 @@
+package infrastructure.history;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+public class RateHistoryCsvImporter {
+
+    public RateHistory importFrom(Path file) throws IOException {
+        return importInto(RateHistory.builder(), file).build();
+    }
+
+    public RateHistory.Builder importInto(RateHistory.Builder builder, Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.startsWith("date"))) {
+                    continue;
+                }
+                parse(builder, line, lineNumber);
+            }
+        }
+        return builder;
+    }
+
+    private static void parse(RateHistory.Builder builder, String line, int lineNumber) throws IOException {
+        int first = line.indexOf(',');
+        int second = line.indexOf(',', first + 1);
+        int third = line.indexOf(',', second + 1);
+        if (first < 0 || second < 0 || third < 0) {
+            throw new IOException("Expected date,from,to,rate at line " + lineNumber);
+        }
+        try {
+            LocalDate date = LocalDate.parse(line.substring(0, first).trim());
+            String from = line.substring(first + 1, second).trim();
+            String to = line.substring(second + 1, third).trim();
+            double rate = Double.parseDouble(line.substring(third + 1).trim());
+            builder.add(from, to, date, rate);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IOException("Invalid rate at line " + lineNumber + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package infrastructure.history;
+
+import java.util.Arrays;
+
+public class RateSeries {
+    private final int[] epochDays;
+    private final double[] rates;
+
+    RateSeries(int[] epochDays, double[] rates) {
+        this.epochDays = epochDays;
+        this.rates = rates;
+    }
+
+    public int size() { return epochDays.length; }
+    public int epochDay(int index) { return epochDays[index]; }
+    public double rate(int index) { return rates[index]; }
+
+    public int indexAsOf(int epochDay) {
+        int index = Arrays.binarySearch(epochDays, epochDay);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    public int indexFrom(int epochDay) {
+        int index = Arrays.binarySearch(epochDays, epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public void forEach(int fromEpochDay, int toEpochDay, Observation observation) {
+        for (int i = indexFrom(fromEpochDay); i < epochDays.length && epochDays[i] <= toEpochDay; i++) {
+            observation.accept(epochDays[i], rates[i]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Observation {
+        void accept(int epochDay, double rate);
+    }
+
+    static final class Builder {
+        private int[] epochDays = new int[64];
+        private double[] rates = new double[64];
+        private int size;
+        private boolean sorted = true;
+
+        void add(int epochDay, double rate) {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+                rates = Arrays.copyOf(rates, size * 2);
+            }
+            if (size > 0 && epochDay <= epochDays[size - 1]) {
+                sorted = false;
+            }
+            epochDays[size] = epochDay;
+            rates[size++] = rate;
+        }
+
+        RateSeries build() {
+            int[] days = Arrays.copyOf(epochDays, size);
+            double[] values = Arrays.copyOf(rates, size);
+            if (sorted) {
+                return new RateSeries(days, values);
+            }
+
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(days[a], days[b]));
+
+            int[] sortedDays = new int[size];
+            double[] sortedRates = new double[size];
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                int day = days[order[i]];
+                if (unique > 0 && sortedDays[unique - 1] == day) {
+                    unique--;
+                }
+                sortedDays[unique] = day;
+                sortedRates[unique++] = values[order[i]];
+            }
+            return new RateSeries(Arrays.copyOf(sortedDays, unique), Arrays.copyOf(sortedRates, unique));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package infrastructure.metrics;
+
+import domain.model.Currency;
+import domain.service.ExchangeRateService;
+import domain.service.RateCache;
+
+public class CacheMetrics implements RateCache.Listener {
+
+    @Override
+    public void onMiss(Currency from, Currency to) {
+        CacheMissEvent event = new CacheMissEvent();
+        if (event.shouldCommit()) {
+            event.from = from.code();
+            event.to = to.code();
+            event.commit();
+        }
+    }
+
+    public static void register(Metrics metrics, ExchangeRateService service) {
+        metrics.gauge("cache.hits", () -> service.cacheStats().hits());
+        metrics.gauge("cache.misses", () -> service.cacheStats().misses());
+        metrics.gauge("cache.loads", () -> service.cacheStats().loads());
+        metrics.gauge("cache.evictions", () -> service.cacheStats().evictions());
+    }
+}
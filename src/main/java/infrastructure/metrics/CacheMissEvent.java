@@ -0,0 +1,19 @@
+package infrastructure.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("moneycalculator.CacheMiss")
+@Label("Rate Cache Miss")
+@Category("Money Calculator")
+@StackTrace(false)
+class CacheMissEvent extends Event {
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+}
@@ -0,0 +1,64 @@
+package infrastructure.metrics;
+
+import application.port.CurrencyRepository;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class MeteredCurrencyRepository implements CurrencyRepository {
+    private final CurrencyRepository delegate;
+    private final LongAdder requests;
+    private final LongAdder errors;
+    private final LatencyRecorder latency;
+
+    public MeteredCurrencyRepository(CurrencyRepository delegate, Metrics metrics, String name) {
+        this.delegate = delegate;
+        this.requests = metrics.counter(name + ".requests");
+        this.errors = metrics.counter(name + ".errors");
+        this.latency = metrics.recorder(name + ".latency");
+    }
+
+    @Override
+    public List<Currency> findAll() {
+        return measure("findAll", "*", delegate::findAll);
+    }
+
+    @Override
+    public Optional<Currency> findByCode(String code) {
+        return measure("findByCode", code, () -> delegate.findByCode(code));
+    }
+
+    @Override
+    public CurrencyRegistry registry() {
+        return measure("registry", "*", delegate::registry);
+    }
+
+    private <T> T measure(String operation, String subject, Supplier<T> call) {
+        requests.increment();
+        UpstreamFetchEvent event = new UpstreamFetchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } catch (RuntimeException e) {
+            errors.increment();
+            throw e;
+        } finally {
+            latency.record(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.subject = subject;
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+}
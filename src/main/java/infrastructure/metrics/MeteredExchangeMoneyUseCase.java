@@ -0,0 +1,36 @@
+package infrastructure.metrics;
+
+import application.port.ExchangeRateRepository;
+import application.usecase.ExchangeMoneyUseCase;
+import domain.model.Currency;
+import domain.model.Money;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class MeteredExchangeMoneyUseCase extends ExchangeMoneyUseCase {
+    private final LongAdder conversions;
+    private final LongAdder errors;
+    private final LatencyRecorder latency;
+
+    public MeteredExchangeMoneyUseCase(ExchangeRateRepository exchangeRateRepository, Metrics metrics) {
+        super(exchangeRateRepository);
+        this.conversions = metrics.counter("conversions.total");
+        this.errors = metrics.counter("conversions.errors");
+        this.latency = metrics.recorder("conversions.latency");
+    }
+
+    @Override
+    public Money execute(Money money, Currency targetCurrency) {
+        long start = System.nanoTime();
+        try {
+            Money result = super.execute(money, targetCurrency);
+            conversions.increment();
+            return result;
+        } catch (RuntimeException e) {
+            errors.increment();
+            throw e;
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package infrastructure.metrics;
+
+import application.port.ExchangeRateRepository;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class MeteredExchangeRateRepository implements ExchangeRateRepository {
+    private final ExchangeRateRepository delegate;
+    private final LongAdder requests;
+    private final LongAdder errors;
+    private final LatencyRecorder latency;
+
+    public MeteredExchangeRateRepository(ExchangeRateRepository delegate, Metrics metrics, String name) {
+        this.delegate = delegate;
+        this.requests = metrics.counter(name + ".requests");
+        this.errors = metrics.counter(name + ".errors");
+        this.latency = metrics.recorder(name + ".latency");
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to) {
+        requests.increment();
+        long start = System.nanoTime();
+        try {
+            return delegate.getExchangeRate(from, to);
+        } catch (RuntimeException e) {
+            errors.increment();
+            throw e;
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package infrastructure.metrics;
+
+import application.port.RateSnapshotRepository;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class MeteredRateSnapshotRepository implements RateSnapshotRepository {
+    private final RateSnapshotRepository delegate;
+    private final LongAdder requests;
+    private final LongAdder errors;
+    private final LatencyRecorder latency;
+
+    public MeteredRateSnapshotRepository(RateSnapshotRepository delegate, Metrics metrics, String name) {
+        this.delegate = delegate;
+        this.requests = metrics.counter(name + ".requests");
+        this.errors = metrics.counter(name + ".errors");
+        this.latency = metrics.recorder(name + ".latency");
+    }
+
+    @Override
+    public RateSnapshot getSnapshot(Currency base) {
+        requests.increment();
+        UpstreamFetchEvent event = new UpstreamFetchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            RateSnapshot snapshot = delegate.getSnapshot(base);
+            success = true;
+            return snapshot;
+        } catch (RuntimeException e) {
+            errors.increment();
+            throw e;
+        } finally {
+            latency.record(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = "snapshot";
+                event.subject = base.code();
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package infrastructure.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class Metrics {
+    public static final String DEFAULT_OBJECT_NAME = "moneycalculator:type=Metrics";
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    public LatencyRecorder recorder(String name) {
+        return recorders.computeIfAbsent(name, key -> new LatencyRecorder());
+    }
+
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    public Map<String, Number> values() {
+        Map<String, Number> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        recorders.forEach((name, recorder) -> {
+            values.put(name + ".count", recorder.count());
+            values.put(name + ".mean_ns", recorder.mean());
+            values.put(name + ".p50_ns", recorder.percentile(50));
+            values.put(name + ".p99_ns", recorder.percentile(99));
+            values.put(name + ".p999_ns", recorder.percentile(99.9));
+            values.put(name + ".max_ns", recorder.max());
+        });
+        return values;
+    }
+
+    public String render() {
+        StringBuilder text = new StringBuilder(1024);
+        values().forEach((name, value) ->
+                text.append(name.replace('.', '_')).append(' ').append(value).append('\n'));
+        return text.toString();
+    }
+
+    public void registerMBean() {
+        registerMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    public void registerMBean(String objectName) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new MetricsMBean(this), new ObjectName(objectName));
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Metrics already registered as " + objectName, e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register metrics MBean", e);
+        }
+    }
+}
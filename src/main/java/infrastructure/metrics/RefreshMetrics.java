@@ -0,0 +1,39 @@
+package infrastructure.metrics;
+
+import domain.model.Currency;
+import infrastructure.api.ExchangeRateApiClient;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RefreshMetrics implements ExchangeRateApiClient.RefreshListener {
+    private final LongAdder updated;
+    private final LongAdder unchanged;
+    private final LongAdder notModified;
+    private final LongAdder bytes;
+    private final LatencyRecorder decode;
+    private final AtomicLong lastBytes = new AtomicLong();
+
+    public RefreshMetrics(Metrics metrics, String name) {
+        this.updated = metrics.counter(name + ".refresh.updated");
+        this.unchanged = metrics.counter(name + ".refresh.unchanged");
+        this.notModified = metrics.counter(name + ".refresh.not_modified");
+        this.bytes = metrics.counter(name + ".refresh.bytes");
+        this.decode = metrics.recorder(name + ".refresh.decode");
+        metrics.gauge(name + ".refresh.last_bytes", lastBytes::get);
+    }
+
+    @Override
+    public void onRefresh(Currency base, ExchangeRateApiClient.RefreshOutcome outcome, long bytes, long decodeNanos) {
+        switch (outcome) {
+            case UPDATED -> updated.increment();
+            case UNCHANGED -> unchanged.increment();
+            case NOT_MODIFIED -> notModified.increment();
+        }
+        this.bytes.add(bytes);
+        lastBytes.set(bytes);
+        if (outcome != ExchangeRateApiClient.RefreshOutcome.NOT_MODIFIED) {
+            decode.record(decodeNanos);
+        }
+    }
+}
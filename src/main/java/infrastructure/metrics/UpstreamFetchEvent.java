@@ -0,0 +1,22 @@
+package infrastructure.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("moneycalculator.UpstreamFetch")
+@Label("Upstream Fetch")
+@Category("Money Calculator")
+@StackTrace(false)
+class UpstreamFetchEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Subject")
+    String subject;
+
+    @Label("Success")
+    boolean success;
+}
@@ -0,0 +1,223 @@
+package infrastructure.persistence;
+
+import application.port.CurrencyRepository;
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.RateSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+public class PersistentRateStore implements RateSnapshotRepository, CurrencyRepository {
+    private static final String CURRENCIES_FILE = "currencies.bin";
+    private static final int RETENTION_DAYS = 31;
+
+    private final RateSnapshotRepository rateSource;
+    private final CurrencyRepository currencySource;
+    private final Path directory;
+    private final AtomicReference<CompletableFuture<CurrencyRegistry>> registry = new AtomicReference<>();
+    private final ConcurrentHashMap<String, RateSnapshot> latest = new ConcurrentHashMap<>();
+
+    public PersistentRateStore(RateSnapshotRepository rateSource, CurrencyRepository currencySource, Path directory) {
+        this.rateSource = rateSource;
+        this.currencySource = currencySource;
+        this.directory = directory;
+    }
+
+    public static Path defaultDirectory() {
+        return Path.of(System.getProperty("user.home"), ".moneycalculator", "rates");
+    }
+
+    public static Optional<List<Currency>> storedCurrencies(Path directory) {
+        Path file = directory.resolve(CURRENCIES_FILE);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(SnapshotFiles.readCurrencies(file));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public RateSnapshot getSnapshot(Currency base) {
+        // The directory is only scanned once per base; afterwards the last snapshot is kept in memory.
+        Optional<RateSnapshot> stored = Optional.ofNullable(latest.get(base.code()))
+                .or(() -> latestStored(base));
+        if (stored.isPresent() && stored.get().isCurrent(Instant.now())) {
+            latest.putIfAbsent(base.code(), stored.get());
+            return stored.get();
+        }
+
+        try {
+            RateSnapshot snapshot = rateSource.getSnapshot(base);
+            latest.put(base.code(), snapshot);
+            store(ratesFile(base, snapshot.date()), snapshot);
+            return snapshot;
+        } catch (ExchangeRateException e) {
+            RateSnapshot fallback = stored.orElseThrow(() -> e);
+            latest.putIfAbsent(base.code(), fallback);
+            return fallback;
+        }
+    }
+
+    public Optional<RateSnapshot> getSnapshot(Currency base, LocalDate date) {
+        Path file = ratesFile(base, date);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(SnapshotFiles.readRates(file));
+        } catch (IOException e) {
+            throw new ExchangeRateException("Failed to read stored rates for " + date, e);
+        }
+    }
+
+    @Override
+    public List<Currency> findAll() {
+        return registry().currencies();
+    }
+
+    @Override
+    public Optional<Currency> findByCode(String code) {
+        return Optional.ofNullable(registry().find(code));
+    }
+
+    @Override
+    public CurrencyRegistry registry() {
+        CompletableFuture<CurrencyRegistry> current = registry.get();
+        if (current == null) {
+            CompletableFuture<CurrencyRegistry> loading = new CompletableFuture<>();
+            current = registry.compareAndExchange(null, loading);
+            if (current == null) {
+                current = loading;
+                try {
+                    loading.complete(new CurrencyRegistry(loadCurrencies()));
+                } catch (Throwable e) {
+                    registry.compareAndSet(loading, null);
+                    loading.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return current.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private List<Currency> loadCurrencies() {
+        // Always ask upstream: the stored list is what the UI shows while this runs, and the fallback when it fails.
+        Path file = directory.resolve(CURRENCIES_FILE);
+        try {
+            List<Currency> currencies = currencySource.findAll();
+            if (!sameCurrencies(currencies, storedCurrencies(directory).orElse(List.of()))) {
+                try {
+                    SnapshotFiles.writeCurrencies(file, currencies);
+                } catch (IOException e) {
+                    // The store is only a cache; a failed write must not fail the lookup.
+                }
+            }
+            return currencies;
+        } catch (ExchangeRateException e) {
+            if (!Files.exists(file)) {
+                throw e;
+            }
+            try {
+                return SnapshotFiles.readCurrencies(file);
+            } catch (IOException io) {
+                e.addSuppressed(io);
+                throw e;
+            }
+        }
+    }
+
+    private static boolean sameCurrencies(List<Currency> a, List<Currency> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).code().equals(b.get(i).code()) || !a.get(i).name().equals(b.get(i).name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Optional<RateSnapshot> latestStored(Currency base) {
+        String prefix = "rates-" + base.code() + "-";
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> candidates = files
+                    .filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .filter(path -> path.getFileName().toString().endsWith(".bin"))
+                    .sorted((a, b) -> b.getFileName().compareTo(a.getFileName()))
+                    .toList();
+            for (Path candidate : candidates) {
+                try {
+                    return Optional.of(SnapshotFiles.readRates(candidate));
+                } catch (IOException e) {
+                    // Skip unreadable snapshots and try the next most recent one.
+                }
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void store(Path file, RateSnapshot snapshot) {
+        try {
+            SnapshotFiles.writeRates(file, snapshot);
+            prune(snapshot.date().minusDays(RETENTION_DAYS));
+        } catch (IOException e) {
+            // The store is only a cache; a failed write must not fail the lookup.
+        }
+    }
+
+    private void prune(LocalDate oldestKept) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                LocalDate date = ratesFileDate(file.getFileName().toString());
+                if (date != null && date.isBefore(oldestKept)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static LocalDate ratesFileDate(String name) {
+        // rates-USD-2026-10-17.bin
+        if (name.length() != 24 || !name.startsWith("rates-") || !name.endsWith(".bin")) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(name.substring(10, 20));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private Path ratesFile(Currency base, LocalDate date) {
+        return directory.resolve("rates-" + base.code() + "-" + date + ".bin");
+    }
+}
@@ -0,0 +1,181 @@
+package infrastructure.persistence;
+
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+final class SnapshotFiles {
+    static final int RATES_MAGIC = 0x4D435253;
+    static final int CURRENCIES_MAGIC = 0x4D435343;
+    static final short RATES_VERSION = 2;
+    static final short CURRENCIES_VERSION = 1;
+
+    static final int RATES_HEADER = 36;
+    static final int RATE_RECORD = 12;
+    static final int CURRENCIES_HEADER = 12;
+    static final int CURRENCY_RECORD = 64;
+    private static final int NAME_BYTES = CURRENCY_RECORD - 4;
+
+    private SnapshotFiles() {
+    }
+
+    static void writeRates(Path file, RateSnapshot snapshot) throws IOException {
+        int count = snapshot.size();
+        ByteBuffer buffer = ByteBuffer.allocate(RATES_HEADER + count * RATE_RECORD).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(RATES_MAGIC)
+                .putShort(RATES_VERSION)
+                .putShort((short) 0)
+                .putLong(snapshot.updatedAt().toEpochMilli())
+                .putLong(snapshot.nextUpdateAt().toEpochMilli())
+                .put(ascii(snapshot.baseCode()))
+                .put((byte) 0)
+                .putInt(count)
+                .putInt(RATE_RECORD);
+        for (int i = 0; i < count; i++) {
+            buffer.put(ascii(snapshot.code(i))).put((byte) 0).putDouble(snapshot.rate(i));
+        }
+        write(file, buffer.flip());
+    }
+
+    static RateSnapshot readRates(Path file) throws IOException {
+        try {
+            return decodeRates(map(file), file);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt rate snapshot: " + file, e);
+        }
+    }
+
+    private static RateSnapshot decodeRates(ByteBuffer buffer, Path file) throws IOException {
+        checkHeader(buffer, RATES_MAGIC, RATES_VERSION, RATES_HEADER, file);
+        Instant updatedAt = Instant.ofEpochMilli(buffer.getLong(8));
+        Instant nextUpdateAt = Instant.ofEpochMilli(buffer.getLong(16));
+        String baseCode = code(buffer, 24);
+        int count = buffer.getInt(28);
+        if (buffer.getInt(32) != RATE_RECORD || !fits(buffer, RATES_HEADER, count, RATE_RECORD)) {
+            throw new IOException("Truncated rate snapshot: " + file);
+        }
+
+        String[] codes = new String[count];
+        double[] rates = new double[count];
+        for (int i = 0; i < count; i++) {
+            int offset = RATES_HEADER + i * RATE_RECORD;
+            codes[i] = code(buffer, offset);
+            rates[i] = buffer.getDouble(offset + 4);
+        }
+        return new RateSnapshot(updatedAt, nextUpdateAt, baseCode, codes, rates);
+    }
+
+    static void writeCurrencies(Path file, List<Currency> currencies) throws IOException {
+        int count = currencies.size();
+        ByteBuffer buffer = ByteBuffer.allocate(CURRENCIES_HEADER + count * CURRENCY_RECORD)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(CURRENCIES_MAGIC)
+                .putShort(CURRENCIES_VERSION)
+                .putShort((short) 0)
+                .putInt(count);
+        for (Currency currency : currencies) {
+            buffer.put(ascii(currency.code())).put((byte) 0);
+            byte[] name = truncate(currency.name().getBytes(StandardCharsets.UTF_8));
+            buffer.put(name).put(new byte[NAME_BYTES - name.length]);
+        }
+        write(file, buffer.flip());
+    }
+
+    static List<Currency> readCurrencies(Path file) throws IOException {
+        try {
+            return decodeCurrencies(map(file), file);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt currency list: " + file, e);
+        }
+    }
+
+    private static List<Currency> decodeCurrencies(ByteBuffer buffer, Path file) throws IOException {
+        checkHeader(buffer, CURRENCIES_MAGIC, CURRENCIES_VERSION, CURRENCIES_HEADER, file);
+        int count = buffer.getInt(8);
+        if (!fits(buffer, CURRENCIES_HEADER, count, CURRENCY_RECORD)) {
+            throw new IOException("Truncated currency list: " + file);
+        }
+
+        List<Currency> currencies = new ArrayList<>(count);
+        byte[] name = new byte[NAME_BYTES];
+        for (int i = 0; i < count; i++) {
+            int offset = CURRENCIES_HEADER + i * CURRENCY_RECORD;
+            buffer.get(offset + 4, name);
+            int length = 0;
+            while (length < NAME_BYTES && name[length] != 0) {
+                length++;
+            }
+            currencies.add(new Currency(code(buffer, offset), new String(name, 0, length, StandardCharsets.UTF_8)));
+        }
+        return currencies;
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    private static void checkHeader(ByteBuffer buffer, int magic, short version, int headerSize, Path file)
+            throws IOException {
+        if (buffer.capacity() < headerSize || buffer.getInt(0) != magic) {
+            throw new IOException("Not a snapshot file: " + file);
+        }
+        if (buffer.getShort(4) != version) {
+            throw new IOException("Unsupported snapshot version " + buffer.getShort(4) + ": " + file);
+        }
+    }
+
+    private static boolean fits(ByteBuffer buffer, int header, int count, int record) {
+        return count >= 0 && (long) count * record <= buffer.capacity() - header;
+    }
+
+    private static void write(Path file, ByteBuffer buffer) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] ascii(String code) {
+        return code.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String code(ByteBuffer buffer, int offset) {
+        char[] chars = {(char) buffer.get(offset), (char) buffer.get(offset + 1), (char) buffer.get(offset + 2)};
+        return new String(chars);
+    }
+
+    private static byte[] truncate(byte[] utf8) {
+        if (utf8.length <= NAME_BYTES) {
+            return utf8;
+        }
+        int length = NAME_BYTES;
+        while (length > 0 && (utf8[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(utf8, 0, truncated, 0, length);
+        return truncated;
+    }
+}
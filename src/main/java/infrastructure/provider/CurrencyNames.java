@@ -0,0 +1,30 @@
+package infrastructure.provider;
+
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+final class CurrencyNames {
+    private CurrencyNames() {
+    }
+
+    static List<Currency> of(RateSnapshot snapshot) {
+        List<Currency> currencies = new ArrayList<>(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            String code = snapshot.code(i);
+            currencies.add(new Currency(code, displayName(code)));
+        }
+        return currencies;
+    }
+
+    private static String displayName(String code) {
+        try {
+            return java.util.Currency.getInstance(code).getDisplayName(Locale.ENGLISH);
+        } catch (IllegalArgumentException e) {
+            return code;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package infrastructure.provider;
+
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import infrastructure.api.HttpTransport;
+import infrastructure.config.ApiConfig;
+import infrastructure.metrics.Metrics;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class EcbXmlRateProvider implements RateProvider {
+    private static final String EURO = "EUR";
+    private static final XMLInputFactory XML = createFactory();
+
+    private final String name;
+    private final String url;
+    private final HttpTransport transport;
+
+    public EcbXmlRateProvider(String name, String url, HttpTransport transport) {
+        this.name = name;
+        this.url = url;
+        this.transport = transport;
+    }
+
+    @Override
+    public String name() { return name; }
+
+    @Override
+    public CompletableFuture<RateSnapshot> fetchSnapshot(Currency base) {
+        CompletableFuture<RateSnapshot> fetched = fetch();
+        return HttpTransport.cancelling(fetched.thenApply(snapshot -> snapshot.rebase(base.code())), fetched);
+    }
+
+    @Override
+    public CompletableFuture<List<Currency>> fetchCurrencies() {
+        CompletableFuture<RateSnapshot> fetched = fetch();
+        return HttpTransport.cancelling(fetched.thenApply(CurrencyNames::of), fetched);
+    }
+
+    private CompletableFuture<RateSnapshot> fetch() {
+        return transport.get(url, "application/xml", EcbXmlRateProvider::decode);
+    }
+
+    static RateSnapshot decode(InputStream body) throws IOException {
+        LocalDate date = null;
+        String[] codes = new String[48];
+        double[] rates = new double[48];
+        codes[0] = EURO;
+        rates[0] = 1.0;
+        int size = 1;
+
+        try {
+            XMLStreamReader reader = XML.createXMLStreamReader(body);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT || !"Cube".equals(reader.getLocalName())) {
+                        continue;
+                    }
+                    String time = reader.getAttributeValue(null, "time");
+                    String currency = reader.getAttributeValue(null, "currency");
+                    if (time != null) {
+                        date = LocalDate.parse(time);
+                    } else if (currency != null && !EURO.equals(currency)) {
+                        if (size == codes.length) {
+                            codes = Arrays.copyOf(codes, size * 2);
+                            rates = Arrays.copyOf(rates, size * 2);
+                        }
+                        codes[size] = currency;
+                        rates[size++] = Double.parseDouble(reader.getAttributeValue(null, "rate"));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | RuntimeException e) {
+            throw new IOException("Malformed ECB rate feed", e);
+        }
+
+        if (date == null || size == 1) {
+            throw new ExchangeRateException("ECB feed contained no rates");
+        }
+        return new RateSnapshot(date, EURO, Arrays.copyOf(codes, size), Arrays.copyOf(rates, size));
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    public static class Factory implements RateProviderFactory {
+        @Override
+        public String type() { return "ecb-xml"; }
+
+        @Override
+        public RateProvider create(String name, ApiConfig settings, HttpTransport transport, Metrics metrics) {
+            return new EcbXmlRateProvider(name, settings.get("url"), transport);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package infrastructure.provider;
+
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import infrastructure.api.ExchangeRateApiClient;
+import infrastructure.api.HttpTransport;
+import infrastructure.config.ApiConfig;
+import infrastructure.metrics.Metrics;
+import infrastructure.metrics.RefreshMetrics;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class ExchangeRateApiProvider implements RateProvider {
+    private final String name;
+    private final ExchangeRateApiClient client;
+
+    public ExchangeRateApiProvider(String name, ExchangeRateApiClient client) {
+        this.name = name;
+        this.client = client;
+    }
+
+    @Override
+    public String name() { return name; }
+
+    @Override
+    public CompletableFuture<RateSnapshot> fetchSnapshot(Currency base) {
+        return client.getSnapshotAsync(base);
+    }
+
+    @Override
+    public CompletableFuture<List<Currency>> fetchCurrencies() {
+        return client.getCurrenciesAsync();
+    }
+
+    public static class Factory implements RateProviderFactory {
+        @Override
+        public String type() { return "exchangerate-api"; }
+
+        @Override
+        public RateProvider create(String name, ApiConfig settings, HttpTransport transport, Metrics metrics) {
+            String apiKey = settings.get("apiKey", null);
+            if (apiKey == null) {
+                return RateProvider.unavailable(name, "No API key configured for rate provider " + name);
+            }
+            String apiUrl = settings.get("baseUrl") + apiKey + "/";
+            return new ExchangeRateApiProvider(name, new ExchangeRateApiClient(
+                    transport, apiUrl, new RefreshMetrics(metrics, "provider." + name)));
+        }
+    }
+}
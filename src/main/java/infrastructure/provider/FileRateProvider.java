@@ -0,0 +1,58 @@
+package infrastructure.provider;
+
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import infrastructure.api.HttpTransport;
+import infrastructure.api.RateJsonDecoder;
+import infrastructure.config.ApiConfig;
+import infrastructure.metrics.Metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class FileRateProvider implements RateProvider {
+    private final String name;
+    private final Path file;
+    private final RateJsonDecoder decoder = new RateJsonDecoder();
+
+    public FileRateProvider(String name, Path file) {
+        this.name = name;
+        this.file = file;
+    }
+
+    @Override
+    public String name() { return name; }
+
+    @Override
+    public CompletableFuture<RateSnapshot> fetchSnapshot(Currency base) {
+        return CompletableFuture.supplyAsync(() -> read(base).rebase(base.code()));
+    }
+
+    @Override
+    public CompletableFuture<List<Currency>> fetchCurrencies() {
+        return CompletableFuture.supplyAsync(() -> CurrencyNames.of(read(null)));
+    }
+
+    private RateSnapshot read(Currency base) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return decoder.decodeTable(in, base != null ? base : new Currency("USD", "United States Dollar"));
+        } catch (IOException e) {
+            throw new ExchangeRateException("Failed to read rates from " + file, e);
+        }
+    }
+
+    public static class Factory implements RateProviderFactory {
+        @Override
+        public String type() { return "file"; }
+
+        @Override
+        public RateProvider create(String name, ApiConfig settings, HttpTransport transport, Metrics metrics) {
+            return new FileRateProvider(name, settings.getPath("path"));
+        }
+    }
+}
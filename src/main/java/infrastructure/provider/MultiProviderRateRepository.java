@@ -0,0 +1,206 @@
+package infrastructure.provider;
+
+import application.port.CurrencyRepository;
+import application.port.ExchangeRateRepository;
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+import infrastructure.api.HttpTransport;
+import infrastructure.config.ApiConfig;
+import infrastructure.metrics.LatencyRecorder;
+import infrastructure.metrics.Metrics;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class MultiProviderRateRepository implements ExchangeRateRepository, RateSnapshotRepository, CurrencyRepository {
+    private final List<Source> sources;
+    private final Hedging hedging;
+
+    public MultiProviderRateRepository(List<RateProvider> providers, Hedging hedging, Metrics metrics) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("At least one rate provider is required");
+        }
+        this.sources = providers.stream()
+                .map(provider -> new Source(provider, metrics.recorder("provider." + provider.name() + ".latency")))
+                .toList();
+        this.hedging = hedging;
+    }
+
+    public static MultiProviderRateRepository fromConfig(ApiConfig config, Metrics metrics) {
+        Map<String, RateProviderFactory> factories = new HashMap<>();
+        for (RateProviderFactory factory : ServiceLoader.load(RateProviderFactory.class)) {
+            factories.put(factory.type(), factory);
+        }
+
+        Duration connectTimeout = config.getDuration("http.connectTimeout");
+        Duration readTimeout = config.getDuration("http.readTimeout");
+        List<RateProvider> providers = new ArrayList<>();
+        for (String name : config.getList("providers")) {
+            ApiConfig settings = config.section("provider." + name + ".");
+            String type = settings.get("type", name);
+            RateProviderFactory factory = factories.get(type);
+            if (factory == null) {
+                throw new IllegalStateException("Unknown rate provider type '" + type + "' for provider " + name);
+            }
+            HttpTransport transport = new HttpTransport(
+                    settings.getDuration("connectTimeout", connectTimeout),
+                    settings.getDuration("readTimeout", readTimeout));
+            providers.add(factory.create(name, settings, transport, metrics));
+        }
+
+        Hedging hedging = config.getBoolean("hedge.enabled")
+                ? new Hedging(config.getDuration("hedge.initialDelay"), config.getDuration("hedge.minDelay"),
+                        config.getDouble("hedge.percentile"), config.getInt("hedge.minSamples"))
+                : Hedging.DISABLED;
+        return new MultiProviderRateRepository(providers, hedging, metrics);
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to) {
+        return getSnapshot(from).rate(from, to);
+    }
+
+    @Override
+    public RateSnapshot getSnapshot(Currency base) {
+        return await(getSnapshotAsync(base));
+    }
+
+    public CompletableFuture<RateSnapshot> getSnapshotAsync(Currency base) {
+        return new Attempt<>(provider -> provider.fetchSnapshot(base), hedging.enabled()).start();
+    }
+
+    @Override
+    public List<Currency> findAll() {
+        return await(new Attempt<>(RateProvider::fetchCurrencies, false).start());
+    }
+
+    @Override
+    public Optional<Currency> findByCode(String code) {
+        return findAll().stream().filter(currency -> currency.code().equalsIgnoreCase(code)).findFirst();
+    }
+
+    private Duration hedgeDelay(Source source) {
+        if (source.latency().count() < hedging.minSamples()) {
+            return hedging.initialDelay();
+        }
+        long percentile = source.latency().percentile(hedging.percentile());
+        return Duration.ofNanos(Math.max(hedging.minDelay().toNanos(), percentile));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ExchangeRateException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isAbandoned(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CancellationException || cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Source(RateProvider provider, LatencyRecorder latency) {
+    }
+
+    public record Hedging(Duration initialDelay, Duration minDelay, double percentile, int minSamples) {
+        public static final Hedging DISABLED = new Hedging(Duration.ZERO, Duration.ZERO, 0, 0);
+
+        boolean enabled() {
+            return this != DISABLED;
+        }
+    }
+
+    private final class Attempt<T> {
+        private final Function<RateProvider, CompletableFuture<T>> request;
+        private final boolean hedged;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> inFlight = new CopyOnWriteArrayList<>();
+        private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        Attempt(Function<RateProvider, CompletableFuture<T>> request, boolean hedged) {
+            this.request = request;
+            this.hedged = hedged;
+        }
+
+        CompletableFuture<T> start() {
+            result.whenComplete((value, error) -> inFlight.forEach(future -> future.cancel(true)));
+            launch(0);
+            return result;
+        }
+
+        private void launch(int index) {
+            if (result.isDone() || index >= sources.size() || !next.compareAndSet(index, index + 1)) {
+                return;
+            }
+            Source source = sources.get(index);
+            long started = System.nanoTime();
+            CompletableFuture<T> future;
+            try {
+                future = request.apply(source.provider());
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            inFlight.add(future);
+
+            future.whenComplete((value, error) -> {
+                long elapsed = System.nanoTime() - started;
+                if (error == null) {
+                    source.latency().record(elapsed);
+                    result.complete(value);
+                    return;
+                }
+                // A cancelled loser or a timeout took at least this long; dropping them would bias
+                // the percentile towards the fast responses that won.
+                if (isAbandoned(error)) {
+                    source.latency().record(elapsed);
+                }
+                failed(error);
+            });
+
+            if (hedged && index + 1 < sources.size()) {
+                CompletableFuture.delayedExecutor(hedgeDelay(source).toNanos(), TimeUnit.NANOSECONDS)
+                        .execute(() -> launch(index + 1));
+            }
+        }
+
+        private void failed(Throwable error) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            failures.add(cause);
+            if (failures.size() == sources.size()) {
+                ExchangeRateException failure = new ExchangeRateException(
+                        "All rate providers failed", failures.get(failures.size() - 1));
+                failures.subList(0, failures.size() - 1).forEach(failure::addSuppressed);
+                result.completeExceptionally(failure);
+            } else {
+                launch(next.get());
+            }
+        }
+    }
+}
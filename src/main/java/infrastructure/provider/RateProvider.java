@@ -0,0 +1,33 @@
+package infrastructure.provider;
+
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface RateProvider {
+    String name();
+
+    CompletableFuture<RateSnapshot> fetchSnapshot(Currency base);
+
+    CompletableFuture<List<Currency>> fetchCurrencies();
+
+    static RateProvider unavailable(String name, String reason) {
+        return new RateProvider() {
+            @Override
+            public String name() { return name; }
+
+            @Override
+            public CompletableFuture<RateSnapshot> fetchSnapshot(Currency base) {
+                return CompletableFuture.failedFuture(new ExchangeRateException(reason));
+            }
+
+            @Override
+            public CompletableFuture<List<Currency>> fetchCurrencies() {
+                return CompletableFuture.failedFuture(new ExchangeRateException(reason));
+            }
+        };
+    }
+}
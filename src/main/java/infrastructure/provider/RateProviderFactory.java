@@ -0,0 +1,11 @@
+package infrastructure.provider;
+
+import infrastructure.api.HttpTransport;
+import infrastructure.config.ApiConfig;
+import infrastructure.metrics.Metrics;
+
+public interface RateProviderFactory {
+    String type();
+
+    RateProvider create(String name, ApiConfig settings, HttpTransport transport, Metrics metrics);
+}
@@ -0,0 +1,171 @@
+package infrastructure.repository;
+
+import application.port.AsyncExchangeRateRepository;
+import application.port.ExchangeRateRepository;
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CoalescingExchangeRateRepository implements ExchangeRateRepository, AsyncExchangeRateRepository, AutoCloseable {
+    private final RateSnapshotRepository upstream;
+    private final long windowNanos;
+    private final Executor fetchExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<String, Batch> pending = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private volatile boolean closed;
+
+    public CoalescingExchangeRateRepository(RateSnapshotRepository upstream, Duration window) {
+        this(upstream, window, ForkJoinPool.commonPool());
+    }
+
+    public CoalescingExchangeRateRepository(RateSnapshotRepository upstream, Duration window, Executor fetchExecutor) {
+        this.upstream = upstream;
+        this.windowNanos = window.toNanos();
+        this.fetchExecutor = fetchExecutor;
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "rate-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduler = executor;
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to) {
+        try {
+            return getExchangeRateAsync(from, to).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<ExchangeRate> getExchangeRateAsync(Currency from, Currency to) {
+        requests.increment();
+        CompletableFuture<ExchangeRate> result = new CompletableFuture<>();
+        while (true) {
+            if (closed) {
+                return CompletableFuture.failedFuture(closedException());
+            }
+            Batch batch = pending.computeIfAbsent(from.code(), code -> open(from));
+            if (batch.add(to, result)) {
+                return result;
+            }
+            if (closed) {
+                pending.remove(from.code(), batch);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public long requests() { return requests.sum(); }
+    public long upstreamCalls() { return upstreamCalls.sum(); }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        for (Batch batch : pending.values()) {
+            pending.remove(batch.base.code(), batch);
+            List<Waiter> waiters = batch.close();
+            if (waiters != null) {
+                ExchangeRateException failure = closedException();
+                waiters.forEach(waiter -> waiter.result.completeExceptionally(failure));
+            }
+        }
+    }
+
+    private Batch open(Currency base) {
+        Batch batch = new Batch(base);
+        try {
+            scheduler.schedule(() -> fetchExecutor.execute(() -> flush(batch)), windowNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed while opening: refuse waiters so callers fail instead of waiting on a flush that never runs.
+            batch.close();
+        }
+        return batch;
+    }
+
+    private static ExchangeRateException closedException() {
+        return new ExchangeRateException("Rate coalescer is closed");
+    }
+
+    private void flush(Batch batch) {
+        pending.remove(batch.base.code(), batch);
+        List<Waiter> waiters = batch.close();
+        if (waiters == null) {
+            return;
+        }
+
+        RateSnapshot snapshot;
+        try {
+            upstreamCalls.increment();
+            snapshot = upstream.getSnapshot(batch.base);
+        } catch (Throwable e) {
+            // Every waiter must settle, or its caller blocks forever.
+            for (Waiter waiter : waiters) {
+                waiter.result.completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (Waiter waiter : waiters) {
+            try {
+                waiter.result.complete(snapshot.rate(batch.base, waiter.to));
+            } catch (Throwable e) {
+                waiter.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final Currency base;
+        private List<Waiter> waiters = new ArrayList<>();
+
+        Batch(Currency base) {
+            this.base = base;
+        }
+
+        synchronized boolean add(Currency to, CompletableFuture<ExchangeRate> result) {
+            if (waiters == null) {
+                return false;
+            }
+            waiters.add(new Waiter(to, result));
+            return true;
+        }
+
+        synchronized List<Waiter> close() {
+            List<Waiter> closed = waiters;
+            waiters = null;
+            return closed;
+        }
+    }
+
+    private record Waiter(Currency to, CompletableFuture<ExchangeRate> result) {
+    }
+}
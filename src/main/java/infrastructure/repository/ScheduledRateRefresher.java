@@ -0,0 +1,190 @@
+package infrastructure.repository;
+
+import application.port.ExchangeRateRepository;
+import application.port.RateSnapshotRepository;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+import domain.service.RateChangePublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ScheduledRateRefresher implements ExchangeRateRepository, RateSnapshotRepository, AutoCloseable {
+    private static final System.Logger LOG = System.getLogger(ScheduledRateRefresher.class.getName());
+
+    private final RateSnapshotRepository source;
+    private final Currency base;
+    private final Duration interval;
+    private final double jitter;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final ScheduledExecutorService scheduler;
+    private final RateChangePublisher changes;
+    private final AtomicReference<CompletableFuture<RateSnapshot>> initialLoad = new AtomicReference<>();
+
+    private volatile Published published;
+    private volatile Throwable lastError;
+    private volatile int consecutiveFailures;
+
+    public ScheduledRateRefresher(RateSnapshotRepository source, Currency base, Duration interval,
+                                  double jitter, Duration initialBackoff, Duration maxBackoff) {
+        this(source, base, interval, jitter, initialBackoff, maxBackoff, new RateChangePublisher());
+    }
+
+    public ScheduledRateRefresher(RateSnapshotRepository source, Currency base, Duration interval,
+                                  double jitter, Duration initialBackoff, Duration maxBackoff,
+                                  RateChangePublisher changes) {
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("Jitter must be in [0, 1)");
+        }
+        this.source = source;
+        this.base = base;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.changes = changes;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.execute(() -> refresh(true));
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to) {
+        return snapshot().rate(from, to);
+    }
+
+    @Override
+    public RateSnapshot getSnapshot(Currency requested) {
+        RateSnapshot current = snapshot();
+        if (requested.code().equals(current.baseCode())) {
+            return current;
+        }
+        return current.ordinalOf(requested.code()) >= 0
+                ? current.rebase(requested.code())
+                : source.getSnapshot(requested);
+    }
+
+    public RateSnapshot snapshot() {
+        Published current = published;
+        return current != null ? current.snapshot() : loadInitial();
+    }
+
+    public Duration age() {
+        Published current = published;
+        return current == null ? null : Duration.between(current.fetchedAt(), Instant.now());
+    }
+
+    public RateChangePublisher changes() { return changes; }
+    public Throwable lastError() { return lastError; }
+    public int consecutiveFailures() { return consecutiveFailures; }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        changes.close();
+    }
+
+    private void refresh(boolean first) {
+        try {
+            if (first || published == null) {
+                loadInitial();
+            } else {
+                publish(source.getSnapshot(base));
+            }
+            consecutiveFailures = 0;
+            lastError = null;
+            schedule(withJitter(untilNextUpdate(published.snapshot())));
+        } catch (Throwable e) {
+            // Anything escaping here would cancel the schedule and freeze the rate table.
+            lastError = e;
+            int failures = ++consecutiveFailures;
+            Duration delay = withJitter(backoff(failures));
+            LOG.log(System.Logger.Level.WARNING, "Rate refresh failed " + failures + " time(s) in a row; retrying in "
+                    + delay.toMillis() + " ms", e);
+            schedule(delay);
+        }
+    }
+
+    private RateSnapshot loadInitial() {
+        CompletableFuture<RateSnapshot> current = initialLoad.get();
+        if (current == null) {
+            CompletableFuture<RateSnapshot> loading = new CompletableFuture<>();
+            current = initialLoad.compareAndExchange(null, loading);
+            if (current == null) {
+                current = loading;
+                try {
+                    RateSnapshot snapshot = source.getSnapshot(base);
+                    publish(snapshot);
+                    loading.complete(snapshot);
+                } catch (Throwable e) {
+                    initialLoad.compareAndSet(loading, null);
+                    loading.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return current.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void publish(RateSnapshot snapshot) {
+        Published previous = published;
+        if (previous != null && snapshot.updatedAt().isBefore(previous.snapshot().updatedAt())) {
+            return;
+        }
+        published = new Published(snapshot, Instant.now());
+        changes.publish(previous == null ? null : previous.snapshot(), snapshot);
+    }
+
+    private Duration untilNextUpdate(RateSnapshot snapshot) {
+        // Providers announce their next table; poll at the interval when that is further off or already late.
+        Duration due = Duration.between(Instant.now(), snapshot.nextUpdateAt());
+        return due.isNegative() || due.isZero() || due.compareTo(interval) > 0 ? interval : due;
+    }
+
+    private Duration backoff(int failures) {
+        long millis = initialBackoff.toMillis() << Math.min(failures - 1, 20);
+        return Duration.ofMillis(Math.min(millis, maxBackoff.toMillis()));
+    }
+
+    private Duration withJitter(Duration delay) {
+        if (jitter == 0) {
+            return delay;
+        }
+        // Only ever later, so a refresh aimed at nextUpdateAt does not fire before the table is out.
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(jitter);
+        return Duration.ofMillis((long) (delay.toMillis() * factor));
+    }
+
+    private void schedule(Duration delay) {
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(() -> refresh(false), delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private record Published(RateSnapshot snapshot, Instant fetchedAt) {
+    }
+}
@@ -0,0 +1,50 @@
+package infrastructure.repository;
+
+import application.port.ExchangeRateRepository;
+import application.port.RateSnapshotRepository;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class SnapshotExchangeRateRepository implements ExchangeRateRepository {
+    private static final Duration RECHECK_INTERVAL = Duration.ofMinutes(5);
+
+    private final RateSnapshotRepository source;
+    private final Currency base;
+    private volatile Loaded loaded;
+
+    public SnapshotExchangeRateRepository(RateSnapshotRepository source, Currency base) {
+        this.source = source;
+        this.base = base;
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to) {
+        return snapshot().rate(from, to);
+    }
+
+    public RateSnapshot snapshot() {
+        Loaded current = loaded;
+        if (current != null && current.isValid()) {
+            return current.snapshot();
+        }
+        synchronized (this) {
+            current = loaded;
+            if (current == null || !current.isValid()) {
+                current = new Loaded(source.getSnapshot(base), Instant.now());
+                loaded = current;
+            }
+            return current.snapshot();
+        }
+    }
+
+    private record Loaded(RateSnapshot snapshot, Instant checkedAt) {
+        boolean isValid() {
+            Instant now = Instant.now();
+            return snapshot.isCurrent(now) || now.isBefore(checkedAt.plus(RECHECK_INTERVAL));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package infrastructure.repository;
+
+import application.port.ExchangeRateRepository;
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.CrossRateMatrix;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TriangulatingExchangeRateRepository implements ExchangeRateRepository {
+    private static final Duration RECHECK_INTERVAL = Duration.ofMinutes(5);
+
+    private final RateSnapshotRepository source;
+    private final List<Currency> pivots;
+    private volatile Loaded loaded;
+
+    public TriangulatingExchangeRateRepository(RateSnapshotRepository source, List<Currency> pivots) {
+        if (pivots.isEmpty()) {
+            throw new IllegalArgumentException("At least one pivot currency is required");
+        }
+        this.source = source;
+        this.pivots = List.copyOf(pivots);
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to) {
+        return matrix().rate(from, to);
+    }
+
+    public CrossRateMatrix matrix() {
+        Loaded current = loaded;
+        if (current != null && current.isValid()) {
+            return current.matrix();
+        }
+        synchronized (this) {
+            current = loaded;
+            if (current == null || !current.isValid()) {
+                current = build();
+                loaded = current;
+            }
+            return current.matrix();
+        }
+    }
+
+    private Loaded build() {
+        List<RateSnapshot> snapshots = new ArrayList<>(pivots.size());
+        ExchangeRateException failure = null;
+        for (Currency pivot : pivots) {
+            try {
+                snapshots.add(source.getSnapshot(pivot));
+            } catch (ExchangeRateException e) {
+                failure = e;
+            }
+        }
+        if (snapshots.isEmpty()) {
+            throw failure;
+        }
+        Instant nextUpdate = snapshots.stream().map(RateSnapshot::nextUpdateAt).min(Instant::compareTo).orElseThrow();
+        Instant recheck = Instant.now().plus(RECHECK_INTERVAL);
+        Instant validUntil = nextUpdate.isAfter(recheck) ? nextUpdate : recheck;
+        return new Loaded(new CrossRateMatrix(snapshots.get(0).baseCode(), snapshots), validUntil);
+    }
+
+    private record Loaded(CrossRateMatrix matrix, Instant validUntil) {
+        boolean isValid() {
+            return Instant.now().isBefore(validUntil);
+        }
+    }
+}
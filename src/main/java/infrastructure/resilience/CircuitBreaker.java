@@ -0,0 +1,66 @@
+package infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier ticker;
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier ticker) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.ticker = ticker;
+    }
+
+    public boolean allowRequest() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case OPEN -> ticker.getAsLong() - openedAt.get() >= openNanos
+                    && state.compareAndSet(OPEN, HALF_OPEN);
+            default -> false;
+        };
+    }
+
+    public void onSuccess() {
+        failures.set(0);
+        state.set(CLOSED);
+    }
+
+    public void onFailure() {
+        if (state.get() == HALF_OPEN || failures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(ticker.getAsLong());
+            state.set(OPEN);
+        }
+    }
+
+    public void onRejected() {
+        if (state.compareAndSet(HALF_OPEN, CLOSED)) {
+            failures.set(0);
+        }
+    }
+
+    public void onSkipped() {
+        state.compareAndSet(HALF_OPEN, OPEN);
+    }
+
+    public State state() {
+        return State.values()[state.get()];
+    }
+}
@@ -0,0 +1,108 @@
+package infrastructure.resilience;
+
+import domain.exception.ExchangeRateException;
+import infrastructure.api.HttpStatusException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public class Resilience {
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final TokenBucket rateLimiter;
+    private final Duration maxThrottleWait;
+
+    public Resilience(RetryPolicy retryPolicy, CircuitBreaker circuitBreaker,
+                      TokenBucket rateLimiter, Duration maxThrottleWait) {
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.maxThrottleWait = maxThrottleWait;
+    }
+
+    public CircuitBreaker circuitBreaker() { return circuitBreaker; }
+
+    public <T> T call(Supplier<T> call, Supplier<T> fallback) {
+        ExchangeRateException failure = null;
+
+        for (int attempt = 1; attempt <= retryPolicy.maxAttempts(); attempt++) {
+            if (!circuitBreaker.allowRequest()) {
+                failure = failure != null ? failure : new ExchangeRateException("Exchange rate provider unavailable");
+                break;
+            }
+            if (!rateLimiter.acquire(maxThrottleWait)) {
+                circuitBreaker.onSkipped();
+                failure = new ExchangeRateException("Exchange rate provider quota exhausted");
+                break;
+            }
+
+            boolean settled = false;
+            try {
+                T result = call.get();
+                circuitBreaker.onSuccess();
+                settled = true;
+                return result;
+            } catch (ExchangeRateException e) {
+                failure = e;
+                if (!isRetryable(e)) {
+                    // The provider answered and refused the request, which says nothing about its health.
+                    circuitBreaker.onRejected();
+                    settled = true;
+                    break;
+                }
+                circuitBreaker.onFailure();
+                settled = true;
+                if (attempt == retryPolicy.maxAttempts() || !sleep(backoff(attempt, e))) {
+                    break;
+                }
+            } finally {
+                if (!settled) {
+                    circuitBreaker.onFailure();
+                }
+            }
+        }
+
+        T fallbackValue = fallback.get();
+        if (fallbackValue != null) {
+            return fallbackValue;
+        }
+        throw failure;
+    }
+
+    private Duration backoff(int attempt, ExchangeRateException e) {
+        HttpStatusException status = statusOf(e);
+        if (status != null && status.statusCode() == TOO_MANY_REQUESTS) {
+            return retryPolicy.maxBackoff();
+        }
+        return retryPolicy.backoff(attempt);
+    }
+
+    private static boolean isRetryable(ExchangeRateException e) {
+        if (e.getCause() == null) {
+            return false;
+        }
+        HttpStatusException status = statusOf(e);
+        return status == null || status.statusCode() == TOO_MANY_REQUESTS || status.statusCode() >= 500;
+    }
+
+    private static HttpStatusException statusOf(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusException status) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    private static boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package infrastructure.resilience;
+
+import application.port.CurrencyRepository;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+
+import java.util.List;
+import java.util.Optional;
+
+public class ResilientCurrencyRepository implements CurrencyRepository {
+    private final CurrencyRepository delegate;
+    private final Resilience resilience;
+    private volatile CurrencyRegistry lastKnown;
+
+    public ResilientCurrencyRepository(CurrencyRepository delegate, Resilience resilience) {
+        this.delegate = delegate;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public List<Currency> findAll() {
+        return registry().currencies();
+    }
+
+    @Override
+    public Optional<Currency> findByCode(String code) {
+        return Optional.ofNullable(registry().find(code));
+    }
+
+    @Override
+    public CurrencyRegistry registry() {
+        return resilience.call(() -> {
+            CurrencyRegistry registry = delegate.registry();
+            lastKnown = registry;
+            return registry;
+        }, () -> lastKnown);
+    }
+}
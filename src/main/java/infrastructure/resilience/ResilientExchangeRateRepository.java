@@ -0,0 +1,29 @@
+package infrastructure.resilience;
+
+import application.port.ExchangeRateRepository;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ResilientExchangeRateRepository implements ExchangeRateRepository {
+    private final ExchangeRateRepository delegate;
+    private final Resilience resilience;
+    private final Map<String, ExchangeRate> lastKnown = new ConcurrentHashMap<>();
+
+    public ResilientExchangeRateRepository(ExchangeRateRepository delegate, Resilience resilience) {
+        this.delegate = delegate;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to) {
+        String key = from.code() + to.code();
+        return resilience.call(() -> {
+            ExchangeRate rate = delegate.getExchangeRate(from, to);
+            lastKnown.put(key, rate);
+            return rate;
+        }, () -> lastKnown.get(key));
+    }
+}
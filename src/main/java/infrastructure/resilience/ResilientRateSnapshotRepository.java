@@ -0,0 +1,28 @@
+package infrastructure.resilience;
+
+import application.port.RateSnapshotRepository;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ResilientRateSnapshotRepository implements RateSnapshotRepository {
+    private final RateSnapshotRepository delegate;
+    private final Resilience resilience;
+    private final Map<String, RateSnapshot> lastKnown = new ConcurrentHashMap<>();
+
+    public ResilientRateSnapshotRepository(RateSnapshotRepository delegate, Resilience resilience) {
+        this.delegate = delegate;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public RateSnapshot getSnapshot(Currency base) {
+        return resilience.call(() -> {
+            RateSnapshot snapshot = delegate.getSnapshot(base);
+            lastKnown.put(base.code(), snapshot);
+            return snapshot;
+        }, () -> lastKnown.get(base.code()));
+    }
+}
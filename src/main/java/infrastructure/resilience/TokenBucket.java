@@ -0,0 +1,57 @@
+package infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+public class TokenBucket {
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier ticker;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(long capacity, double tokensPerSecond) {
+        this(capacity, tokensPerSecond, System::nanoTime);
+    }
+
+    public TokenBucket(long capacity, double tokensPerSecond, LongSupplier ticker) {
+        if (capacity < 1 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket needs a positive capacity and rate");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1e9;
+        this.ticker = ticker;
+        this.tokens = capacity;
+        this.refilledAt = ticker.getAsLong();
+    }
+
+    public boolean tryAcquire() {
+        return reserve() == 0;
+    }
+
+    public boolean acquire(Duration maxWait) {
+        long deadline = ticker.getAsLong() + maxWait.toNanos();
+        while (true) {
+            long wait = reserve();
+            if (wait == 0) {
+                return true;
+            }
+            if (ticker.getAsLong() + wait > deadline || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = ticker.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,164 @@
+package infrastructure.wire;
+
+import application.port.CurrencyRepository;
+import application.port.ExchangeRateRepository;
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shares one rate table and currency list between instances on the same host through a
+ * {@link SnapshotCodec} file. Whichever instance holds the lock file fetches from upstream;
+ * the others wait on the lock and then map the file it published.
+ */
+public class SharedSnapshotRepository implements ExchangeRateRepository, RateSnapshotRepository, CurrencyRepository {
+    private static final Duration RECHECK_INTERVAL = Duration.ofMinutes(5);
+
+    private final RateSnapshotRepository rateSource;
+    private final CurrencyRepository currencySource;
+    private final Currency base;
+    private final Path file;
+    private final Path lockFile;
+    private volatile Loaded loaded;
+
+    public SharedSnapshotRepository(RateSnapshotRepository rateSource, CurrencyRepository currencySource,
+                                    Currency base, Path file) {
+        this.rateSource = rateSource;
+        this.currencySource = currencySource;
+        this.base = base;
+        this.file = file;
+        this.lockFile = file.resolveSibling(file.getFileName() + ".lock");
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(Currency from, Currency to) {
+        return loaded().snapshot().rate(from, to);
+    }
+
+    @Override
+    public RateSnapshot getSnapshot(Currency requested) {
+        return loaded().snapshot().rebase(requested.code());
+    }
+
+    @Override
+    public List<Currency> findAll() {
+        return registry().currencies();
+    }
+
+    @Override
+    public Optional<Currency> findByCode(String code) {
+        return Optional.ofNullable(registry().find(code));
+    }
+
+    @Override
+    public CurrencyRegistry registry() {
+        return loaded().registry();
+    }
+
+    private Loaded loaded() {
+        Loaded current = loaded;
+        if (current != null && current.isValid()) {
+            return current;
+        }
+        synchronized (this) {
+            current = loaded;
+            if (current == null || !current.isValid()) {
+                current = new Loaded(load(), Instant.now());
+                loaded = current;
+            }
+            return current;
+        }
+    }
+
+    private SnapshotCodec.Payload load() {
+        Optional<SnapshotCodec.Payload> published = read();
+        if (published.isPresent() && isCurrent(published.get())) {
+            return published.get();
+        }
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // Released when the channel closes.
+                channel.lock();
+                // Another instance may have published while this one waited for the lock.
+                published = read();
+                if (published.isPresent() && isCurrent(published.get())) {
+                    return published.get();
+                }
+                SnapshotCodec.Payload fetched = new SnapshotCodec.Payload(
+                        rateSource.getSnapshot(base), currencySource.findAll());
+                write(SnapshotCodec.encode(fetched.snapshot(), fetched.currencies()));
+                return fetched;
+            }
+        } catch (IOException e) {
+            if (published.isPresent()) {
+                return published.get();
+            }
+            throw new ExchangeRateException("Failed to publish shared snapshot " + file, e);
+        } catch (ExchangeRateException e) {
+            return published.orElseThrow(() -> e);
+        } catch (IllegalArgumentException e) {
+            // The upstream snapshot could not be encoded; keep serving what was published.
+            if (published.isPresent()) {
+                return published.get();
+            }
+            throw new ExchangeRateException("Failed to encode shared snapshot " + file, e);
+        }
+    }
+
+    private Optional<SnapshotCodec.Payload> read() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(SnapshotCodec.decode(mapped));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | IllegalArgumentException e) {
+            // Unreadable or foreign file: treat as missing so the lock holder rewrites it.
+            return Optional.empty();
+        }
+    }
+
+    private void write(byte[] encoded) throws IOException {
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(encoded);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private boolean isCurrent(SnapshotCodec.Payload payload) {
+        return payload.snapshot().baseCode().equals(base.code()) && payload.snapshot().isCurrent(Instant.now());
+    }
+
+    private record Loaded(RateSnapshot snapshot, CurrencyRegistry registry, Instant checkedAt) {
+        Loaded(SnapshotCodec.Payload payload, Instant checkedAt) {
+            this(payload.snapshot(), new CurrencyRegistry(payload.currencies()), checkedAt);
+        }
+
+        boolean isValid() {
+            Instant now = Instant.now();
+            return snapshot.isCurrent(now) || now.isBefore(checkedAt.plus(RECHECK_INTERVAL));
+        }
+    }
+}
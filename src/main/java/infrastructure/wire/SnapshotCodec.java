@@ -0,0 +1,187 @@
+package infrastructure.wire;
+
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary form of a rate table plus the currency list, small enough to hand between instances.
+ *
+ * <p>Layout (little-endian): magic, version, then varints for the provider's update times, a code
+ * table of base-26 packed codes with length-prefixed UTF-8 names, the base ordinal and
+ * {@code (ordinal, rate)} pairs, followed by a CRC32 of everything before it.
+ */
+public final class SnapshotCodec {
+    static final int MAGIC = 0x4D435357;
+    static final byte VERSION = 1;
+    private static final int HEADER = 5;
+    private static final int TRAILER = 4;
+
+    private SnapshotCodec() {
+    }
+
+    public static byte[] encode(RateSnapshot snapshot, List<Currency> currencies) {
+        Map<String, Integer> ordinals = new HashMap<>((currencies.size() + snapshot.size()) * 2);
+        List<String> codes = new ArrayList<>(currencies.size() + snapshot.size());
+        List<byte[]> names = new ArrayList<>(currencies.size() + snapshot.size());
+        for (Currency currency : currencies) {
+            if (ordinals.putIfAbsent(currency.code(), codes.size()) == null) {
+                codes.add(currency.code());
+                names.add(currency.name().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (ordinals.putIfAbsent(snapshot.code(i), codes.size()) == null) {
+                codes.add(snapshot.code(i));
+                names.add(new byte[0]);
+            }
+        }
+
+        int capacity = HEADER + 5 * 10 + codes.size() * 3 + snapshot.size() * (3 + Double.BYTES) + TRAILER;
+        for (byte[] name : names) {
+            capacity += 2 + name.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).put(VERSION);
+        long updated = snapshot.updatedAt().getEpochSecond();
+        putVarLong(buffer, updated);
+        // Whole seconds can collapse a sub-second validity to zero, which decode would reject.
+        putVarLong(buffer, Math.max(1, snapshot.nextUpdateAt().getEpochSecond() - updated));
+        putVarLong(buffer, codes.size());
+        for (int i = 0; i < codes.size(); i++) {
+            putVarLong(buffer, pack(codes.get(i)));
+            putVarLong(buffer, names.get(i).length);
+            buffer.put(names.get(i));
+        }
+        putVarLong(buffer, ordinals.get(snapshot.baseCode()));
+        putVarLong(buffer, snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            putVarLong(buffer, ordinals.get(snapshot.code(i)));
+            buffer.putDouble(snapshot.rate(i));
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        byte[] encoded = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, encoded, 0, encoded.length);
+        return encoded;
+    }
+
+    public static Payload decode(ByteBuffer source) {
+        ByteBuffer buffer = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER + TRAILER || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a rate snapshot payload");
+        }
+        if (buffer.get(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot payload version " + buffer.get(4));
+        }
+        int length = buffer.limit() - TRAILER;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(length));
+        if ((int) crc.getValue() != buffer.getInt(length)) {
+            throw new IllegalArgumentException("Snapshot payload checksum mismatch");
+        }
+
+        try {
+            buffer.position(HEADER).limit(length);
+            long updated = getVarLong(buffer);
+            long validFor = getVarLong(buffer);
+            if (validFor < 1) {
+                throw new IllegalArgumentException("Snapshot payload has no validity period");
+            }
+            int codeCount = getVarInt(buffer);
+            String[] codes = new String[codeCount];
+            List<Currency> currencies = new ArrayList<>(codeCount);
+            byte[] name = new byte[64];
+            for (int i = 0; i < codeCount; i++) {
+                codes[i] = unpack(getVarInt(buffer));
+                int nameLength = getVarInt(buffer);
+                if (nameLength > 0) {
+                    if (nameLength > name.length) {
+                        name = new byte[nameLength];
+                    }
+                    buffer.get(name, 0, nameLength);
+                    currencies.add(new Currency(codes[i], new String(name, 0, nameLength, StandardCharsets.UTF_8)));
+                }
+            }
+            String baseCode = codes[getVarInt(buffer)];
+            int rateCount = getVarInt(buffer);
+            String[] rateCodes = new String[rateCount];
+            double[] rates = new double[rateCount];
+            for (int i = 0; i < rateCount; i++) {
+                rateCodes[i] = codes[getVarInt(buffer)];
+                rates[i] = buffer.getDouble();
+            }
+            RateSnapshot snapshot = new RateSnapshot(Instant.ofEpochSecond(updated),
+                    Instant.ofEpochSecond(updated + validFor), baseCode, rateCodes, rates);
+            return new Payload(snapshot, currencies);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated snapshot payload", e);
+        }
+    }
+
+    private static int pack(String code) {
+        int packed = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = code.length() == 3 ? code.charAt(i) - 'A' : -1;
+            if (letter < 0 || letter >= 26) {
+                throw new IllegalArgumentException("Currency code must be alphabetic: " + code);
+            }
+            packed = packed * 26 + letter;
+        }
+        return packed;
+    }
+
+    private static String unpack(int packed) {
+        if (packed < 0 || packed >= 26 * 26 * 26) {
+            throw new IllegalArgumentException("Invalid packed currency code " + packed);
+        }
+        char[] code = {(char) ('A' + packed / 676), (char) ('A' + packed / 26 % 26), (char) ('A' + packed % 26)};
+        return new String(code);
+    }
+
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Varint must not be negative: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in snapshot payload");
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        long value = getVarLong(buffer);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of range in snapshot payload: " + value);
+        }
+        return (int) value;
+    }
+
+    public record Payload(RateSnapshot snapshot, List<Currency> currencies) {
+    }
+}
@@ -1,21 +1,26 @@
 package presentation.controller;
 
+import application.usecase.ConversionTable;
 import application.usecase.ExchangeMoneyUseCase;
+import application.usecase.FanOutConversionUseCase;
 import domain.exception.ExchangeRateException;
 import domain.model.Currency;
 import domain.model.Money;
-import presentation.ui.MoneyCalculatorView;
+
+import java.util.List;
 
 public class ExchangeController {
     private final ExchangeMoneyUseCase exchangeMoneyUseCase;
-    private MoneyCalculatorView view;
+    private final FanOutConversionUseCase fanOutConversionUseCase;
 
     public ExchangeController(ExchangeMoneyUseCase exchangeMoneyUseCase) {
-        this.exchangeMoneyUseCase = exchangeMoneyUseCase;
+        this(exchangeMoneyUseCase, null);
     }
 
-    public void setView(MoneyCalculatorView view) {
-        this.view = view;
+    public ExchangeController(ExchangeMoneyUseCase exchangeMoneyUseCase,
+                              FanOutConversionUseCase fanOutConversionUseCase) {
+        this.exchangeMoneyUseCase = exchangeMoneyUseCase;
+        this.fanOutConversionUseCase = fanOutConversionUseCase;
     }
 
     public Money exchangeMoney(Money money, Currency targetCurrency) {
@@ -26,24 +31,14 @@ public class ExchangeController {
         }
     }
 
-    public void handleExchange() {
-        if (view == null) {
-            throw new IllegalStateException("View not set");
+    public ConversionTable exchangeAll(Money money, List<Currency> targets) {
+        if (fanOutConversionUseCase == null) {
+            throw new IllegalStateException("Fan-out conversion not configured");
         }
-
         try {
-            Money inputMoney = view.getInputMoney();
-            Currency targetCurrency = view.getTargetCurrency();
-            
-            Money result = exchangeMoney(inputMoney, targetCurrency);
-            view.displayResult(result);
-            
-        } catch (NumberFormatException e) {
-            view.displayError("Please enter a valid amount");
+            return fanOutConversionUseCase.execute(money, targets);
         } catch (ExchangeRateException e) {
-            view.displayError("Could not fetch exchange rate. Please try again.");
-        } catch (Exception e) {
-            view.displayError("An error occurred: " + e.getMessage());
+            throw new RuntimeException("Failed to get exchange rates: " + e.getMessage(), e);
         }
     }
 }
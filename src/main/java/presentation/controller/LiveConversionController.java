@@ -0,0 +1,191 @@
+package presentation.controller;
+
+import application.usecase.ConversionTable;
+import domain.model.Currency;
+import domain.model.Money;
+import domain.model.RateChange;
+import presentation.ui.AllCurrenciesView;
+import presentation.ui.MoneyCalculatorView;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+public class LiveConversionController {
+    private static final int DEBOUNCE_MILLIS = 150;
+
+    private final ExchangeController controller;
+    private final MoneyCalculatorView view;
+    private final AllCurrenciesView allCurrenciesView;
+    private final ExecutorService executor;
+    private final Timer debounce;
+    private long generation;
+    private long pendingInputNanos;
+    private Future<?> inFlight;
+    private Money lastResult;
+    private RateChange pendingChange;
+
+    public LiveConversionController(ExchangeController controller, MoneyCalculatorView view,
+                                    AllCurrenciesView allCurrenciesView) {
+        this.controller = controller;
+        this.view = view;
+        this.allCurrenciesView = allCurrenciesView;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-conversion");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.debounce = new Timer(DEBOUNCE_MILLIS, e -> convert(false));
+        this.debounce.setRepeats(false);
+    }
+
+    public void bind(LongConsumer inputToPaintNanos) {
+        view.onResultPainted(inputToPaintNanos);
+        view.onInputChanged(this::inputChanged);
+        view.onExchangeClicked(() -> {
+            pendingInputNanos = System.nanoTime();
+            debounce.stop();
+            convert(true);
+        });
+        view.onAllCurrenciesClicked(() -> {
+            allCurrenciesView.setVisible(true);
+            allCurrenciesView.toFront();
+            pendingInputNanos = System.nanoTime();
+            debounce.stop();
+            convert(true);
+        });
+    }
+
+    /**
+     * Re-renders the current conversion when a published rate change touches either selected
+     * currency. One change is taken at a time and the next is only requested once the EDT has
+     * handled it, so a burst from one refresh collapses into a single debounced conversion.
+     */
+    public void follow(Flow.Publisher<RateChange> changes) {
+        changes.subscribe(new Flow.Subscriber<RateChange>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(RateChange change) {
+                SwingUtilities.invokeLater(() -> {
+                    rateChanged(change);
+                    subscription.request(1);
+                });
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                // Live updates stop; typing and the Exchange button still convert on demand.
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+
+    private void rateChanged(RateChange change) {
+        Currency from = view.getSourceCurrency();
+        Currency to = view.getTargetCurrency();
+        if (lastResult == null || from == null || to == null
+                || !(change.involves(from.code()) || change.involves(to.code()))) {
+            return;
+        }
+        if (!debounce.isRunning()) {
+            pendingInputNanos = 0;
+        }
+        pendingChange = change;
+        debounce.restart();
+    }
+
+    private void inputChanged() {
+        pendingChange = null;
+        if (!debounce.isRunning()) {
+            pendingInputNanos = System.nanoTime();
+        }
+        debounce.restart();
+    }
+
+    private void convert(boolean explicit) {
+        long ticket = ++generation;
+        if (inFlight != null) {
+            inFlight.cancel(true);
+            inFlight = null;
+        }
+
+        view.showLoading(false);
+        String text = view.getAmountText();
+        Currency from = view.getSourceCurrency();
+        Currency to = view.getTargetCurrency();
+        if (text.isEmpty() || from == null || to == null) {
+            lastResult = null;
+            view.clearResult();
+            return;
+        }
+
+        Money money;
+        try {
+            money = new Money(Money.parseAmount(text), from);
+        } catch (IllegalArgumentException e) {
+            lastResult = null;
+            view.displayStatus(e.getMessage());
+            return;
+        }
+
+        long inputNanos = pendingInputNanos;
+        RateChange change = pendingChange;
+        pendingChange = null;
+        List<Currency> targets = allCurrenciesView.isShowing() ? view.getCurrencies() : null;
+        view.showLoading(explicit);
+        inFlight = executor.submit(() -> {
+            try {
+                Money result = controller.exchangeMoney(money, to);
+                ConversionTable table = targets == null ? null : controller.exchangeAll(money, targets);
+                SwingUtilities.invokeLater(() -> deliver(ticket, result, table, inputNanos, change));
+            } catch (RuntimeException e) {
+                SwingUtilities.invokeLater(() -> fail(ticket, explicit, e));
+            }
+        });
+    }
+
+    private void deliver(long ticket, Money result, ConversionTable table, long inputNanos, RateChange change) {
+        if (ticket != generation) {
+            return;
+        }
+        view.showLoading(false);
+        Money previous = lastResult;
+        lastResult = result;
+        if (change != null && previous != null && previous.currency().equals(result.currency())
+                && previous.amount().signum() != 0) {
+            double relative = result.amount().doubleValue() / previous.amount().doubleValue() - 1;
+            view.displayUpdatedResult(result, relative, change.updatedAt());
+        } else {
+            view.displayResult(result, inputNanos);
+        }
+        if (table != null) {
+            allCurrenciesView.display(table);
+        }
+    }
+
+    private void fail(long ticket, boolean explicit, RuntimeException e) {
+        if (ticket != generation) {
+            return;
+        }
+        view.showLoading(false);
+        if (explicit) {
+            view.displayError("Error: " + e.getMessage());
+        } else {
+            view.displayStatus(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package presentation.http;
+
+import application.port.HistoricalExchangeRateRepository;
+import application.port.RateSnapshotRepository;
+import application.usecase.ConversionTable;
+import application.usecase.ExchangeMoneyUseCase;
+import application.usecase.FanOutConversionUseCase;
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import domain.exception.CurrencyNotFoundException;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.Money;
+import domain.model.RateSnapshot;
+import domain.service.CurrencyService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+public class ConversionServer implements AutoCloseable {
+    private final ExchangeMoneyUseCase exchangeMoneyUseCase;
+    private final FanOutConversionUseCase fanOutConversionUseCase;
+    private final CurrencyService currencyService;
+    private final RateSnapshotRepository snapshotRepository;
+    private final HistoricalExchangeRateRepository history;
+    private final Supplier<String> metrics;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public ConversionServer(ExchangeMoneyUseCase exchangeMoneyUseCase,
+                            CurrencyService currencyService,
+                            RateSnapshotRepository snapshotRepository,
+                            InetSocketAddress address) throws IOException {
+        this(exchangeMoneyUseCase, new FanOutConversionUseCase(snapshotRepository),
+                currencyService, snapshotRepository, null, () -> "", address);
+    }
+
+    public ConversionServer(ExchangeMoneyUseCase exchangeMoneyUseCase,
+                            FanOutConversionUseCase fanOutConversionUseCase,
+                            CurrencyService currencyService,
+                            RateSnapshotRepository snapshotRepository,
+                            HistoricalExchangeRateRepository history,
+                            Supplier<String> metrics,
+                            InetSocketAddress address) throws IOException {
+        this.exchangeMoneyUseCase = exchangeMoneyUseCase;
+        this.fanOutConversionUseCase = fanOutConversionUseCase;
+        this.currencyService = currencyService;
+        this.snapshotRepository = snapshotRepository;
+        this.history = history;
+        this.metrics = metrics;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/convert", exchange -> handle(exchange, this::convert));
+        this.server.createContext("/convert/all", exchange -> handle(exchange, this::convertAll));
+        this.server.createContext("/rates/", exchange -> handle(exchange, this::rates));
+        this.server.createContext("/currencies", exchange -> handle(exchange, this::currencies));
+        this.server.createContext("/metrics", this::metrics);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void convert(HttpExchange exchange, JsonWriter json) throws IOException {
+        Map<String, String> query = query(exchange);
+        Currency from = currencyService.getCurrency(required(query, "from"));
+        Currency to = currencyService.getCurrency(required(query, "to"));
+        Money money = new Money(Money.parseAmount(required(query, "amount")), from);
+        String date = query.get("date");
+        if (date != null && !date.isBlank()) {
+            convertAsOf(json, money, to, parseDate(date));
+            return;
+        }
+        Money result = exchangeMoneyUseCase.execute(money, to);
+
+        json.beginObject()
+                .name("amount").jsonValue(money.amount().toPlainString())
+                .name("from").value(from.code())
+                .name("to").value(to.code())
+                .name("result").jsonValue(result.amount().toPlainString())
+                .endObject();
+    }
+
+    private void convertAsOf(JsonWriter json, Money money, Currency to, LocalDate date) throws IOException {
+        if (history == null) {
+            throw new IllegalArgumentException("Historical rates are not configured");
+        }
+        ExchangeRate rate = history.getExchangeRate(money.currency(), to, date);
+        Money result = money.exchange(rate);
+
+        json.beginObject()
+                .name("amount").jsonValue(money.amount().toPlainString())
+                .name("from").value(money.currency().code())
+                .name("to").value(to.code())
+                .name("date").value(rate.date().toString())
+                .name("result").jsonValue(result.amount().toPlainString())
+                .endObject();
+    }
+
+    private void convertAll(HttpExchange exchange, JsonWriter json) throws IOException {
+        Map<String, String> query = query(exchange);
+        Currency from = currencyService.getCurrency(required(query, "from"));
+        Money money = new Money(Money.parseAmount(required(query, "amount")), from);
+        String to = query.get("to");
+        ConversionTable table;
+        if (to == null || to.isBlank()) {
+            table = fanOutConversionUseCase.execute(money, currencyService.getAllCurrencies());
+        } else {
+            List<Currency> targets = new ArrayList<>();
+            for (String code : to.split(",")) {
+                targets.add(currencyService.getCurrency(code.trim()));
+            }
+            table = fanOutConversionUseCase.execute(money, targets);
+        }
+
+        json.beginObject()
+                .name("amount").jsonValue(money.amount().toPlainString())
+                .name("from").value(from.code())
+                .name("date").value(table.date().toString())
+                .name("results").beginObject();
+        for (int i = 0; i < table.size(); i++) {
+            json.name(table.target(i).code()).jsonValue(table.money(i).amount().toPlainString());
+        }
+        json.endObject().endObject();
+    }
+
+    private void rates(HttpExchange exchange, JsonWriter json) throws IOException {
+        String base = exchange.getRequestURI().getPath().substring("/rates/".length());
+        RateSnapshot snapshot = snapshotRepository.getSnapshot(currencyService.getCurrency(base));
+        int baseOrdinal = snapshot.ordinalOf(snapshot.baseCode());
+
+        json.beginObject()
+                .name("base").value(snapshot.baseCode())
+                .name("date").value(snapshot.date().toString())
+                .name("rates").beginObject();
+        for (int i = 0; i < snapshot.size(); i++) {
+            json.name(snapshot.code(i)).value(snapshot.crossRate(baseOrdinal, i));
+        }
+        json.endObject().endObject();
+    }
+
+    private void currencies(HttpExchange exchange, JsonWriter json) throws IOException {
+        json.beginArray();
+        for (Currency currency : currencyService.getAllCurrencies()) {
+            json.beginObject()
+                    .name("code").value(currency.code())
+                    .name("name").value(currency.name())
+                    .endObject();
+        }
+        json.endArray();
+    }
+
+    private void metrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = metrics.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, error("Method not allowed"));
+                return;
+            }
+            ByteArrayOutputStream body = new ByteArrayOutputStream(512);
+            try (JsonWriter json = new JsonWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8))) {
+                handler.handle(exchange, json);
+            }
+            respond(exchange, 200, body.toByteArray());
+        } catch (CurrencyNotFoundException e) {
+            respond(exchange, 404, error(e.getMessage()));
+        } catch (ExchangeRateException e) {
+            respond(exchange, 502, error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, error(e.getMessage()));
+        } catch (RuntimeException e) {
+            respond(exchange, 500, error("An error occurred: " + e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] error(String message) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        try (JsonWriter json = new JsonWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8))) {
+            json.beginObject().name("error").value(message).endObject();
+        }
+        return body.toByteArray();
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return parameters;
+        }
+        for (String pair : raw.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(
+                        URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange, JsonWriter json) throws IOException;
+    }
+}
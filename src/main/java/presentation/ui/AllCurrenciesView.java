@@ -0,0 +1,44 @@
+package presentation.ui;
+
+import application.usecase.ConversionTable;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableRowSorter;
+import java.awt.*;
+
+public class AllCurrenciesView extends JFrame {
+    private final ConversionTableModel model = new ConversionTableModel();
+    private final JLabel header = new JLabel(" ");
+
+    public AllCurrenciesView() {
+        setTitle("All currencies");
+        setDefaultCloseOperation(JFrame.HIDE_ON_CLOSE);
+        setSize(480, 600);
+
+        JTable table = new JTable(model);
+        table.setRowSorter(new TableRowSorter<>(model));
+        table.setFillsViewportHeight(true);
+        table.setDefaultRenderer(Double.class, new DefaultTableCellRenderer() {
+            @Override
+            protected void setValue(Object value) {
+                setHorizontalAlignment(SwingConstants.RIGHT);
+                setText(value == null ? "" : String.format("%,.2f", (Double) value));
+            }
+        });
+        table.getColumnModel().getColumn(0).setMaxWidth(60);
+
+        header.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        header.setFont(new Font("Arial", Font.BOLD, 14));
+
+        setLayout(new BorderLayout());
+        add(header, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+    }
+
+    public void display(ConversionTable table) {
+        header.setText(String.format("%.2f %s  (%s)",
+                table.source().amount().doubleValue(), table.source().currency().code(), table.date()));
+        model.setTable(table);
+    }
+}
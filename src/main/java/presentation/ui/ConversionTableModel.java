@@ -0,0 +1,45 @@
+package presentation.ui;
+
+import application.usecase.ConversionTable;
+
+import javax.swing.table.AbstractTableModel;
+
+public class ConversionTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"Code", "Currency", "Amount"};
+
+    private ConversionTable table;
+
+    public void setTable(ConversionTable table) {
+        this.table = table;
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return table == null ? 0 : table.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 2 ? Double.class : String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return switch (column) {
+            case 0 -> table.target(row).code();
+            case 1 -> table.target(row).name();
+            default -> table.amount(row);
+        };
+    }
+}
@@ -4,14 +4,19 @@ import domain.model.Currency;
 import domain.model.Money;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 public class MoneyCalculatorView extends JFrame {
     private JTextField amountField;
     private JComboBox<Currency> fromCurrencyCombo;
     private JComboBox<Currency> toCurrencyCombo;
     private JButton exchangeButton;
+    private JButton allCurrenciesButton;
     private MoneyDisplayPanel resultPanel;
 
     public MoneyCalculatorView() {
@@ -28,6 +33,7 @@ public class MoneyCalculatorView extends JFrame {
         fromCurrencyCombo = new JComboBox<>();
         toCurrencyCombo = new JComboBox<>();
         exchangeButton = new JButton("Exchange");
+        allCurrenciesButton = new JButton("All currencies");
         resultPanel = new MoneyDisplayPanel();
         
         // Styling
@@ -73,17 +79,27 @@ public class MoneyCalculatorView extends JFrame {
         gbc.ipady = 10;
         inputPanel.add(exchangeButton, gbc);
 
+        // All Currencies Button
+        gbc.gridy = 4; gbc.ipady = 0;
+        inputPanel.add(allCurrenciesButton, gbc);
+
         add(inputPanel, BorderLayout.NORTH);
         add(resultPanel, BorderLayout.CENTER);
     }
 
     public void setCurrencies(List<Currency> currencies) {
-        fromCurrencyCombo.removeAllItems();
-        toCurrencyCombo.removeAllItems();
-        
-        for (Currency currency : currencies) {
-            fromCurrencyCombo.addItem(currency);
-            toCurrencyCombo.addItem(currency);
+        Currency[] items = currencies.toArray(new Currency[0]);
+        Object from = fromCurrencyCombo.getSelectedItem();
+        Object to = toCurrencyCombo.getSelectedItem();
+
+        fromCurrencyCombo.setModel(new DefaultComboBoxModel<>(items));
+        toCurrencyCombo.setModel(new DefaultComboBoxModel<>(items));
+
+        if (from != null && currencies.contains(from)) {
+            fromCurrencyCombo.setSelectedItem(from);
+        }
+        if (to != null && currencies.contains(to)) {
+            toCurrencyCombo.setSelectedItem(to);
         }
     }
 
@@ -93,6 +109,23 @@ public class MoneyCalculatorView extends JFrame {
         return new Money(amount, currency);
     }
 
+    public String getAmountText() {
+        return amountField.getText().trim();
+    }
+
+    public Currency getSourceCurrency() {
+        return (Currency) fromCurrencyCombo.getSelectedItem();
+    }
+
+    public List<Currency> getCurrencies() {
+        ComboBoxModel<Currency> model = toCurrencyCombo.getModel();
+        Currency[] currencies = new Currency[model.getSize()];
+        for (int i = 0; i < currencies.length; i++) {
+            currencies[i] = model.getElementAt(i);
+        }
+        return List.of(currencies);
+    }
+
     public Currency getTargetCurrency() {
         return (Currency) toCurrencyCombo.getSelectedItem();
     }
@@ -101,6 +134,41 @@ public class MoneyCalculatorView extends JFrame {
         resultPanel.show(result);
     }
 
+    public void displayResult(Money result, long inputNanos) {
+        resultPanel.show(result, inputNanos);
+    }
+
+    public void displayUpdatedResult(Money result, double relativeChange, Instant updatedAt) {
+        resultPanel.showUpdated(result, relativeChange, updatedAt);
+    }
+
+    public void displayStatus(String message) {
+        resultPanel.showMessage(message);
+    }
+
+    public void clearResult() {
+        resultPanel.clear();
+    }
+
+    public void onResultPainted(LongConsumer inputToPaintNanos) {
+        resultPanel.onPainted(inputToPaintNanos);
+    }
+
+    public void onInputChanged(Runnable action) {
+        amountField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { action.run(); }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) { action.run(); }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) { action.run(); }
+        });
+        fromCurrencyCombo.addActionListener(e -> action.run());
+        toCurrencyCombo.addActionListener(e -> action.run());
+    }
+
     public void displayError(String message) {
         JOptionPane.showMessageDialog(this, message, "Error", JOptionPane.ERROR_MESSAGE);
     }
@@ -117,6 +185,10 @@ public class MoneyCalculatorView extends JFrame {
         });
     }
 
+    public void onAllCurrenciesClicked(Runnable action) {
+        allCurrenciesButton.addActionListener(e -> action.run());
+    }
+
     public void showLoading(boolean loading) {
         exchangeButton.setEnabled(!loading);
         exchangeButton.setText(loading ? "Loading..." : "Exchange");
@@ -4,10 +4,19 @@ import domain.model.Money;
 
 import javax.swing.*;
 import java.awt.*;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.function.LongConsumer;
 
 public class MoneyDisplayPanel extends JPanel {
+    private static final DateTimeFormatter UPDATED_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneOffset.UTC);
+
     private JLabel resultLabel;
     private JLabel detailLabel;
+    private LongConsumer paintLatency = nanos -> { };
+    private long pendingInputNanos;
 
     public MoneyDisplayPanel() {
         setLayout(new BorderLayout());
@@ -35,8 +44,40 @@ public class MoneyDisplayPanel extends JPanel {
         detailLabel.setText(money.currency().name());
     }
 
+    public void show(Money money, long inputNanos) {
+        show(money);
+        pendingInputNanos = inputNanos;
+        repaint();
+    }
+
+    public void showUpdated(Money money, double relativeChange, Instant updatedAt) {
+        show(money);
+        detailLabel.setText(String.format("%s  %s %+.3f%%  (rates of %s UTC)",
+                money.currency().name(), relativeChange >= 0 ? "\u25B2" : "\u25BC", relativeChange * 100,
+                UPDATED_FORMAT.format(updatedAt)));
+        repaint();
+    }
+
+    public void showMessage(String message) {
+        resultLabel.setText("");
+        detailLabel.setText(message);
+    }
+
     public void clear() {
         resultLabel.setText("");
         detailLabel.setText("");
     }
+
+    public void onPainted(LongConsumer inputToPaintNanos) {
+        this.paintLatency = inputToPaintNanos;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (pendingInputNanos != 0) {
+            paintLatency.accept(System.nanoTime() - pendingInputNanos);
+            pendingInputNanos = 0;
+        }
+    }
 }
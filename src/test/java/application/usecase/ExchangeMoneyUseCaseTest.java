@@ -0,0 +1,135 @@
+package application.usecase;
+
+import application.port.ExchangeRateRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.ExchangeRate;
+import domain.model.Money;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExchangeMoneyUseCaseTest {
+    private static final String[] CODES = {"USD", "EUR", "GBP", "CHF", "CAD", "AUD"};
+    private static final RateSnapshot SNAPSHOT = new RateSnapshot(LocalDate.of(2026, 10, 17), "USD", CODES,
+            new double[]{1.0, 0.92, 0.79, 0.8873, 1.3671, 1.5234});
+    private static final CurrencyRegistry REGISTRY = registry();
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final ExchangeRateRepository repository = (from, to) -> {
+        if (from.equals(to)) {
+            throw new AssertionError("Same-currency rows must not hit the repository");
+        }
+        lookups.incrementAndGet();
+        return SNAPSHOT.rate(from, to);
+    };
+    private final ExchangeMoneyUseCase useCase = new ExchangeMoneyUseCase(repository);
+
+    @Test
+    void shouldMatchElementWiseExecuteForMixedAndRepeatedPairs() {
+        Random random = new Random(8);
+        int length = 5_000;
+        long[] minorUnits = new long[length];
+        int[] sources = new int[length];
+        int[] targets = new int[length];
+        for (int i = 0; i < length; i++) {
+            minorUnits[i] = random.nextLong(0, 10_000_000_000L);
+            // Runs of repeated pairs, broken up by random ones, exercise both the run loop and the table.
+            sources[i] = i % 50 < 30 ? (i / 50) % CODES.length : random.nextInt(CODES.length);
+            targets[i] = i % 50 < 30 ? (i / 300) % CODES.length : random.nextInt(CODES.length);
+        }
+
+        long[] out = new long[length];
+        useCase.executeBatch(REGISTRY, minorUnits, sources, targets, out);
+        assertEquals(CODES.length * (CODES.length - 1), lookups.get());
+
+        for (int i = 0; i < length; i++) {
+            Money money = new Money(BigDecimal.valueOf(minorUnits[i], 2), REGISTRY.get(sources[i]));
+            BigDecimal expected = sources[i] == targets[i]
+                    ? money.amount()
+                    : useCase.execute(money, REGISTRY.get(targets[i])).amount();
+            assertEquals(expected.unscaledValue().longValueExact(), out[i], "row " + i);
+        }
+    }
+
+    @Test
+    void shouldApplyTheSameRateToDoubleAmounts() {
+        double[] amounts = {10.0, 2.5, 7.25, 100.0, 3.0};
+        int[] sources = {0, 0, 1, 1, 2};
+        int[] targets = {1, 1, 0, 1, 0};
+        double[] out = new double[amounts.length];
+
+        useCase.executeBatch(REGISTRY, amounts, sources, targets, out);
+        assertEquals(3, lookups.get());
+
+        for (int i = 0; i < amounts.length; i++) {
+            double rate = sources[i] == targets[i] ? 1.0
+                    : SNAPSHOT.rate(REGISTRY.get(sources[i]), REGISTRY.get(targets[i])).rate();
+            assertEquals(amounts[i] * rate, out[i], "row " + i);
+        }
+    }
+
+    @Test
+    void shouldFailTheBatchWhenARateIsMissing() {
+        ExchangeMoneyUseCase missing = new ExchangeMoneyUseCase((from, to) -> {
+            if (to.code().equals("AUD")) {
+                throw new ExchangeRateException("No rate for " + from.code() + "/" + to.code());
+            }
+            return SNAPSHOT.rate(from, to);
+        });
+
+        assertThrows(ExchangeRateException.class, () -> missing.executeBatch(REGISTRY,
+                new long[]{100, 200}, new int[]{0, 0}, new int[]{1, 5}, new long[2]));
+    }
+
+    @Test
+    void shouldConvertEveryRowAboveTheParallelThreshold() {
+        int length = 200_003;
+        long[] minorUnits = new long[length];
+        int[] sources = new int[length];
+        int[] targets = new int[length];
+        for (int i = 0; i < length; i++) {
+            minorUnits[i] = i;
+            sources[i] = (i / 1_000) % 2;
+            targets[i] = 1 - sources[i];
+        }
+
+        long[] out = new long[length];
+        useCase.executeBatch(REGISTRY, minorUnits, sources, targets, out);
+
+        for (int i = 0; i < length; i += 997) {
+            Money money = new Money(BigDecimal.valueOf(minorUnits[i], 2), REGISTRY.get(sources[i]));
+            assertEquals(useCase.execute(money, REGISTRY.get(targets[i])).amount().unscaledValue().longValueExact(),
+                    out[i], "row " + i);
+        }
+        assertEquals(out[length - 1], useCase.execute(
+                new Money(BigDecimal.valueOf(length - 1, 2), REGISTRY.get(sources[length - 1])),
+                REGISTRY.get(targets[length - 1])).amount().unscaledValue().longValueExact());
+    }
+
+    @Test
+    void shouldRejectMismatchedArrays() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.executeBatch(REGISTRY,
+                new long[2], new int[]{0}, new int[]{1, 1}, new long[2]));
+        assertThrows(IllegalArgumentException.class, () -> useCase.executeBatch(REGISTRY,
+                new long[2], new int[]{0, 0}, new int[]{1, 1}, new long[1]));
+    }
+
+    private static CurrencyRegistry registry() {
+        List<Currency> currencies = new ArrayList<>();
+        for (String code : CODES) {
+            currencies.add(new Currency(code, code));
+        }
+        return new CurrencyRegistry(currencies);
+    }
+}
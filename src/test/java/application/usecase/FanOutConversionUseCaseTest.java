@@ -0,0 +1,62 @@
+package application.usecase;
+
+import application.port.RateSnapshotRepository;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.Money;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FanOutConversionUseCaseTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency JPY = new Currency("JPY", "Japanese Yen");
+    private static final String[] CODES = {"USD", "EUR", "GBP", "JPY", "CHF", "CAD", "SEK", "KWD"};
+
+    @Test
+    void shouldMatchExchangeMoneyUseCaseToTheCent() {
+        Random random = new Random(5);
+        for (int round = 0; round < 500; round++) {
+            double[] rates = new double[CODES.length];
+            rates[0] = 1.0;
+            for (int i = 1; i < rates.length; i++) {
+                rates[i] = Math.exp(random.nextGaussian() * 3);
+            }
+            RateSnapshot snapshot = new RateSnapshot(LocalDate.of(2026, 10, 17), "USD", CODES, rates);
+            RateSnapshotRepository snapshots = base -> snapshot;
+            ExchangeMoneyUseCase direct = new ExchangeMoneyUseCase(snapshot::rate);
+            FanOutConversionUseCase fanOut = new FanOutConversionUseCase(snapshots, USD);
+
+            String code = CODES[random.nextInt(CODES.length)];
+            Money money = new Money(BigDecimal.valueOf(random.nextLong(1, 10_000_000_000L), 2), new Currency(code, code));
+            ConversionTable table = fanOut.execute(money);
+
+            for (int i = 0; i < table.size(); i++) {
+                Money expected = direct.execute(money, table.target(i));
+                assertEquals(expected.amount(), table.money(i).amount(), money + " -> " + table.target(i).code());
+            }
+        }
+    }
+
+    @Test
+    void shouldUseRegisteredCurrenciesForTargets() {
+        RateSnapshot snapshot = new RateSnapshot(LocalDate.of(2026, 10, 17), "USD",
+                new String[]{"USD", "EUR", "JPY", "XAU"}, new double[]{1.0, 0.92, 151.2, 0.0004});
+        CurrencyRegistry registry = new CurrencyRegistry(List.of(USD, EUR, JPY));
+        FanOutConversionUseCase fanOut = new FanOutConversionUseCase(base -> snapshot, USD, () -> registry);
+
+        ConversionTable table = fanOut.execute(new Money(10, USD));
+
+        assertSame(EUR, table.target(1));
+        assertEquals("Japanese Yen", table.target(2).name());
+        assertEquals("XAU", table.target(3).name());
+    }
+}
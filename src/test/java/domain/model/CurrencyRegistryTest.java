@@ -0,0 +1,37 @@
+package domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CurrencyRegistryTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+
+    @Test
+    void shouldHashCurrenciesByCode() {
+        assertEquals(new Currency("usd", "Dollar").hashCode(), USD.hashCode());
+        assertEquals("USD".hashCode(), USD.hashCode());
+    }
+
+    @Test
+    void shouldFindInternedCurrenciesByCode() {
+        CurrencyRegistry registry = new CurrencyRegistry(List.of(USD, EUR));
+
+        assertSame(EUR, registry.find("EUR"));
+        assertNull(registry.find("GBP"));
+    }
+
+    @Test
+    void shouldKeepFirstInstanceWhenAddingKnownCodes() {
+        CurrencyRegistry registry = new CurrencyRegistry(List.of(USD))
+                .withAll(List.of(new Currency("USD", "Dollar"), EUR));
+
+        assertEquals(2, registry.size());
+        assertSame(USD, registry.find("USD"));
+    }
+}
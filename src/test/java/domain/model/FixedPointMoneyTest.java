@@ -0,0 +1,46 @@
+package domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FixedPointMoneyTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency JPY = new Currency("JPY", "Japanese Yen");
+    private static final Currency BHD = new Currency("BHD", "Bahraini Dinar");
+
+    @Test
+    void shouldMatchMoneyExchangeForTwoDecimalCurrencies() {
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            Money money = new Money(BigDecimal.valueOf(random.nextInt(100_000_000), 2), USD);
+            double quoted = Math.round((0.0001 + random.nextDouble() * 500) * 1_000_000) / 1_000_000.0;
+            ExchangeRate rate = new ExchangeRate(LocalDate.now(), USD, EUR, quoted);
+
+            Money expected = money.exchange(rate);
+            FixedPointMoney actual = FixedPointMoney.of(money).exchange(ScaledRate.of(rate));
+
+            assertEquals(expected.amount(), actual.amount(), () -> money + " x " + quoted);
+        }
+    }
+
+    @Test
+    void shouldUseIsoMinorUnitsUnlikeMoney() {
+        Money money = new Money(BigDecimal.valueOf(1000), USD);
+
+        FixedPointMoney yen = FixedPointMoney.of(money)
+                .exchange(ScaledRate.of(new ExchangeRate(LocalDate.now(), USD, JPY, 151.235)));
+        FixedPointMoney dinar = FixedPointMoney.of(money)
+                .exchange(ScaledRate.of(new ExchangeRate(LocalDate.now(), USD, BHD, 0.37701)));
+
+        assertEquals(new BigDecimal("151235"), yen.amount());
+        assertEquals(new BigDecimal("377.010"), dinar.amount());
+        assertEquals(new BigDecimal("151235.00"),
+                money.exchange(new ExchangeRate(LocalDate.now(), USD, JPY, 151.235)).amount());
+    }
+}
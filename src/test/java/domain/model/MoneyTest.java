@@ -0,0 +1,36 @@
+package domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void shouldParsePlainAndScientificAmounts() {
+        assertEquals(new BigDecimal("12.5"), Money.parseAmount("12.5"));
+        assertEquals(0, new BigDecimal("1200").compareTo(Money.parseAmount("1.2e3")));
+        assertEquals(BigDecimal.ZERO, Money.parseAmount("1e-999999999"));
+        assertEquals(new BigDecimal("0.004"), Money.parseAmount("0.004"));
+    }
+
+    @Test
+    void shouldRejectInvalidAmountsWithAMessageForTheUser() {
+        assertEquals("Amount cannot be negative",
+                assertThrows(IllegalArgumentException.class, () -> Money.parseAmount("-5"))
+                        .getMessage());
+        for (String text : new String[]{"NaN", "Infinity", "-Infinity", "12,5", "abc"}) {
+            assertEquals("Please enter a valid number",
+                    assertThrows(IllegalArgumentException.class, () -> Money.parseAmount(text))
+                            .getMessage());
+        }
+        for (String text : new String[]{"1e400", "1e999999999", "1234567890123456"}) {
+            assertEquals("Amount is too large",
+                    assertThrows(IllegalArgumentException.class, () -> Money.parseAmount(text))
+                            .getMessage());
+        }
+    }
+}
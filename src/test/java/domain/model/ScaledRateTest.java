@@ -0,0 +1,60 @@
+package domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScaledRateTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+
+    @Test
+    void shouldKeepTheDecimalDigitsOfTheRate() {
+        ScaledRate rate = ScaledRate.of(new ExchangeRate(LocalDate.now(), USD, EUR, 0.9612));
+
+        assertEquals(9612, rate.unscaled());
+        assertEquals(4, rate.scale());
+    }
+
+    @Test
+    void shouldRoundHalfUpAwayFromZero() {
+        ScaledRate half = new ScaledRate(USD, EUR, 5, 1);
+
+        assertEquals(1, half.apply(1, 2, 2));
+        assertEquals(-1, half.apply(-1, 2, 2));
+        assertEquals(0, new ScaledRate(USD, EUR, 4, 1).apply(1, 2, 2));
+    }
+
+    @Test
+    void shouldMatchBigDecimalForRandomAmountsRatesAndExponents() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            long minorUnits = switch (i % 4) {
+                case 0 -> random.nextInt(1_000_000);
+                case 1 -> random.nextLong() % 1_000_000_000_000L;
+                case 2 -> random.nextLong() >> random.nextInt(20);
+                default -> -random.nextInt(1_000_000);
+            };
+            long unscaled = 1 + (random.nextLong() >>> 1) % (i % 3 == 0 ? 1_000_000L : Long.MAX_VALUE / 2);
+            int scale = random.nextInt(19);
+            int fromExponent = random.nextInt(5);
+            int toExponent = random.nextInt(5);
+            ScaledRate rate = new ScaledRate(USD, EUR, unscaled, scale);
+
+            BigDecimal expected = BigDecimal.valueOf(minorUnits, fromExponent)
+                    .multiply(BigDecimal.valueOf(unscaled, scale))
+                    .setScale(toExponent, RoundingMode.HALF_UP);
+            if (expected.unscaledValue().bitLength() > 63) {
+                continue;
+            }
+            assertEquals(expected.unscaledValue().longValueExact(),
+                    rate.apply(minorUnits, fromExponent, toExponent),
+                    () -> minorUnits + " x " + unscaled + "e-" + scale + " (" + fromExponent + " -> " + toExponent + ")");
+        }
+    }
+}
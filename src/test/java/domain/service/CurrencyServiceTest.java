@@ -0,0 +1,145 @@
+package domain.service;
+
+import application.port.CurrencyRepository;
+import domain.exception.CurrencyNotFoundException;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CurrencyServiceTest {
+    private static final int THREADS = 16;
+    private static final List<Currency> CURRENCIES = List.of(
+            new Currency("USD", "United States Dollar"), new Currency("EUR", "Euro"));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @RepeatedTest(20)
+    void shouldLoadOnceUnderContention() throws Exception {
+        CurrencyService service = new CurrencyService(repository(() -> CURRENCIES));
+
+        List<CurrencyRegistry> seen = concurrently(service::registry);
+
+        assertEquals(1, loads.get());
+        seen.forEach(registry -> assertSame(seen.get(0), registry));
+    }
+
+    @Test
+    void shouldNeverLoadMoreThanOncePerRefresh() throws Exception {
+        CurrencyService service = new CurrencyService(repository(() -> CURRENCIES));
+        AtomicInteger refreshes = new AtomicInteger();
+
+        concurrently(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                if (i % 100 == 0) {
+                    service.refreshCache();
+                    refreshes.incrementAndGet();
+                }
+                assertEquals("Euro", service.getCurrency("EUR").name());
+            }
+            return null;
+        });
+
+        assertTrue(loads.get() <= refreshes.get() + 1, loads + " loads for " + refreshes + " refreshes");
+    }
+
+    @Test
+    void shouldReleaseWaitersAndRetryWhenTheLoadThrowsAnError() {
+        CountDownLatch waitersQueued = new CountDownLatch(1);
+        CurrencyService service = new CurrencyService(repository(() -> {
+            if (loads.get() == 1) {
+                await(waitersQueued);
+                throw new StackOverflowError("load failed");
+            }
+            return CURRENCIES;
+        }));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<CurrencyRegistry>> results = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    results.add(executor.submit(service::registry));
+                }
+                Thread.sleep(50);
+                waitersQueued.countDown();
+                for (Future<CurrencyRegistry> result : results) {
+                    try {
+                        result.get();
+                    } catch (ExecutionException e) {
+                        assertTrue(e.getCause() instanceof StackOverflowError, e.getCause().toString());
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+
+        assertEquals(2, service.getAllCurrencies().size());
+        assertThrows(CurrencyNotFoundException.class, () -> service.getCurrency("XXX"));
+    }
+
+    private <T> List<T> concurrently(Supplier<T> task) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.get();
+                }));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CurrencyRepository repository(Supplier<List<Currency>> source) {
+        return new CurrencyRepository() {
+            @Override
+            public List<Currency> findAll() {
+                loads.incrementAndGet();
+                return source.get();
+            }
+
+            @Override
+            public Optional<Currency> findByCode(String code) {
+                return findAll().stream().filter(currency -> currency.code().equals(code)).findFirst();
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
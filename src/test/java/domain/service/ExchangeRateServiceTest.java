@@ -0,0 +1,49 @@
+package domain.service;
+
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateChange;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExchangeRateServiceTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+
+    @Test
+    void shouldClearOnceForEachPublishedRateTable() {
+        AtomicInteger loads = new AtomicInteger();
+        ExchangeRateService service = new ExchangeRateService((from, to) ->
+                new ExchangeRate(LocalDate.of(2026, 10, 17), from, to, 0.9 + 0.001 * loads.incrementAndGet()));
+        List<Flow.Subscriber<? super RateChange>> subscribers = new ArrayList<>();
+        service.follow(subscribers::add);
+        Flow.Subscriber<? super RateChange> subscriber = subscribers.get(0);
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        service.getRate(USD, EUR);
+        service.getRate(USD, EUR);
+        subscriber.onNext(new RateChange("USD", "EUR", 0.9, 0.91, Instant.EPOCH));
+        assertEquals(0.902, service.getRate(USD, EUR).rate(), 1e-12);
+        subscriber.onNext(new RateChange("USD", "GBP", 0.79, 0.8, Instant.EPOCH));
+        service.getRate(USD, EUR);
+
+        assertEquals(2, loads.get());
+        assertEquals(2, service.cacheStats().hits());
+    }
+}
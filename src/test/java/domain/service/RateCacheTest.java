@@ -0,0 +1,120 @@
+package domain.service;
+
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateCacheTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldServeHitsUntilTheTtlExpires() {
+        RateCache cache = new RateCache(this::load, Duration.ofMinutes(10), 64, nanos::get, RateCache.Listener.NONE);
+
+        ExchangeRate first = cache.get(USD, EUR);
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos() - 1);
+        assertSame(first, cache.get(USD, EUR));
+        nanos.incrementAndGet();
+        ExchangeRate reloaded = cache.get(USD, EUR);
+
+        assertEquals(2, loads.get());
+        assertEquals(0.902, reloaded.rate(), 1e-12);
+        assertEquals(1, cache.stats().hits());
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    void shouldEvictToStayWithinCapacity() {
+        List<Currency> misses = new ArrayList<>();
+        RateCache cache = new RateCache(this::load, Duration.ofHours(1), 16, nanos::get, (from, to) -> misses.add(to));
+
+        for (int i = 0; i < 26 * 26; i++) {
+            nanos.incrementAndGet();
+            cache.get(USD, code(i));
+        }
+
+        assertTrue(cache.size() <= 16, "size " + cache.size());
+        assertEquals(26 * 26 - cache.size(), cache.stats().evictions());
+        assertEquals(26 * 26, misses.size());
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentMissesOnTheSameKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RateCache cache = new RateCache((from, to) -> {
+            awaitQuietly(release);
+            return load(from, to);
+        }, Duration.ofHours(1), 64);
+
+        List<Future<ExchangeRate>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(USD, EUR)));
+            }
+            while (cache.stats().misses() < 8) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<ExchangeRate> result : results) {
+                assertEquals(0.901, result.get(5, TimeUnit.SECONDS).rate(), 1e-12);
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().loads());
+    }
+
+    @Test
+    void shouldNotCacheALoaderFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        RateCache cache = new RateCache((from, to) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new ExchangeRateException("upstream down");
+            }
+            return load(from, to);
+        }, Duration.ofHours(1), 64);
+
+        assertThrows(ExchangeRateException.class, () -> cache.get(USD, EUR));
+        assertEquals(0.901, cache.get(USD, EUR).rate(), 1e-12);
+        assertEquals(0.901, cache.get(USD, EUR).rate(), 1e-12);
+        assertEquals(2, calls.get());
+    }
+
+    private ExchangeRate load(Currency from, Currency to) {
+        return new ExchangeRate(LocalDate.of(2026, 10, 17), from, to, 0.9 + 0.001 * loads.incrementAndGet());
+    }
+
+    private static Currency code(int index) {
+        String code = "Z" + (char) ('A' + index / 26) + (char) ('A' + index % 26);
+        return new Currency(code, code);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
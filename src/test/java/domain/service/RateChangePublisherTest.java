@@ -0,0 +1,126 @@
+package domain.service;
+
+import domain.model.Currency;
+import domain.model.RateChange;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateChangePublisherTest {
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency GBP = new Currency("GBP", "Pound Sterling");
+    private static final String[] CODES = {"USD", "EUR", "GBP", "JPY"};
+
+    private final RateChangePublisher publisher = new RateChangePublisher(Runnable::run, 4);
+
+    @Test
+    void shouldReportOnlyMovedRatesFromTheBase() {
+        Recorder all = new Recorder(Long.MAX_VALUE);
+        publisher.subscribe(all);
+
+        publisher.publish(snapshot(0, 1.0, 0.92, 0.79, 150.0), snapshot(1, 1.0, 0.93, 0.79, 151.0));
+
+        assertEquals(List.of("USD/EUR", "USD/JPY"), all.pairs());
+        assertEquals(0.93, all.received.get(0).newRate());
+        assertEquals(2, publisher.publishedCount());
+    }
+
+    @Test
+    void shouldFilterByPairAndThreshold() {
+        Recorder crossPair = new Recorder(Long.MAX_VALUE);
+        Recorder bigMoves = new Recorder(Long.MAX_VALUE);
+        publisher.subscribe(crossPair, RateChangePublisher.Filter.pair(EUR, GBP));
+        publisher.subscribe(bigMoves, RateChangePublisher.Filter.ALL.withThreshold(0.01));
+
+        publisher.publish(snapshot(0, 1.0, 0.92, 0.79, 150.0), snapshot(1, 1.0, 0.92, 0.80, 150.3));
+
+        assertEquals(List.of("EUR/GBP"), crossPair.pairs());
+        assertEquals(0.80 / 0.92, crossPair.received.get(0).newRate(), 1e-12);
+        assertEquals(List.of("USD/GBP"), bigMoves.pairs());
+    }
+
+    @Test
+    void shouldDropTheNewestChangesForASubscriberThatNeverRequests() {
+        Recorder stalled = new Recorder(0);
+        Recorder eager = new Recorder(Long.MAX_VALUE);
+        publisher.subscribe(stalled);
+        publisher.subscribe(eager);
+
+        RateSnapshot previous = snapshot(0, 1.0, 0.92, 0.79, 150.0);
+        for (int i = 1; i <= 3; i++) {
+            RateSnapshot next = snapshot(i, 1.0, 0.92 + i * 0.01, 0.79 + i * 0.01, 150.0 + i);
+            publisher.publish(previous, next);
+            previous = next;
+        }
+
+        assertEquals(9, eager.received.size());
+        assertEquals(0, stalled.received.size());
+        stalled.subscription.request(Long.MAX_VALUE);
+        assertEquals(4, stalled.received.size());
+        assertEquals(0.93, stalled.received.get(0).newRate(), 1e-12);
+        assertEquals(5, publisher.droppedCount());
+        assertEquals(13, publisher.publishedCount());
+    }
+
+    @Test
+    void shouldRemoveCancelledSubscriptionsOnTheNextPublish() {
+        Recorder leaving = new Recorder(Long.MAX_VALUE);
+        Recorder staying = new Recorder(Long.MAX_VALUE);
+        publisher.subscribe(leaving);
+        publisher.subscribe(staying);
+        assertEquals(2, publisher.subscriberCount());
+
+        leaving.subscription.cancel();
+        publisher.publish(snapshot(0, 1.0, 0.92, 0.79, 150.0), snapshot(1, 1.0, 0.93, 0.79, 150.0));
+
+        assertEquals(1, publisher.subscriberCount());
+        assertEquals(0, leaving.received.size());
+        assertEquals(1, staying.received.size());
+    }
+
+    private static RateSnapshot snapshot(int hour, double... rates) {
+        Instant updatedAt = Instant.parse("2026-10-17T00:00:00Z").plusSeconds(3600L * hour);
+        return new RateSnapshot(updatedAt, updatedAt.plusSeconds(3600), "USD", CODES, rates);
+    }
+
+    private static final class Recorder implements Flow.Subscriber<RateChange> {
+        private final long initialDemand;
+        private final List<RateChange> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+
+        Recorder(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        List<String> pairs() {
+            return received.stream().map(change -> change.fromCode() + "/" + change.toCode()).toList();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(RateChange change) {
+            received.add(change);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package infrastructure.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpTransportTest {
+    private HttpServer server;
+    private HttpTransport transport;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "hello".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/stalled", exchange -> {
+            exchange.sendResponseHeaders(200, 1000);
+            OutputStream out = exchange.getResponseBody();
+            out.write("{\"partial\":".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.start();
+        transport = new HttpTransport(Duration.ofSeconds(1), Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    @Test
+    void shouldParseSuccessfulResponses() {
+        String body = transport.get(url("/ok"), HttpTransportTest::text).join();
+
+        assertEquals("hello", body);
+    }
+
+    @Test
+    void shouldReportHttpStatusErrors() {
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> transport.get(url("/missing"), HttpTransportTest::text).join());
+
+        HttpStatusException status = assertInstanceOf(HttpStatusException.class, failure.getCause().getCause());
+        assertEquals(404, status.statusCode());
+    }
+
+    @Test
+    void shouldTimeOutStalledBodies() {
+        CompletionException failure = assertTimeoutPreemptively(Duration.ofSeconds(3), () ->
+                assertThrows(CompletionException.class,
+                        () -> transport.get(url("/stalled"), HttpTransportTest::text).join()));
+
+        assertInstanceOf(HttpTimeoutException.class, failure.getCause().getCause());
+    }
+
+    @Test
+    void shouldStopReadingTheBodyWhenCancelled() throws InterruptedException {
+        HttpTransport patient = new HttpTransport(Duration.ofSeconds(1), Duration.ofSeconds(10));
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        CompletableFuture<String> future = patient.get(url("/stalled"), body -> {
+            reading.countDown();
+            try {
+                return text(body);
+            } finally {
+                stopped.countDown();
+            }
+        });
+
+        assertTrue(reading.await(3, TimeUnit.SECONDS));
+        future.cancel(true);
+
+        assertTrue(stopped.await(3, TimeUnit.SECONDS));
+    }
+
+    private static String text(InputStream body) throws IOException {
+        return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
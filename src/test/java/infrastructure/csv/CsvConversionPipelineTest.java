@@ -0,0 +1,141 @@
+package infrastructure.csv;
+
+import application.usecase.ExchangeMoneyUseCase;
+import domain.model.Currency;
+import domain.model.CurrencyRegistry;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvConversionPipelineTest {
+    private static final Currency USD = new Currency("USD", "USD");
+    private static final Currency EUR = new Currency("EUR", "EUR");
+    private static final Currency JPY = new Currency("JPY", "JPY");
+    private static final Currency BHD = new Currency("BHD", "BHD");
+    private static final CurrencyRegistry REGISTRY = new CurrencyRegistry(List.of(USD, EUR, JPY, BHD));
+    private static final RateSnapshot SNAPSHOT = new RateSnapshot(LocalDate.of(2026, 10, 17), "USD",
+            new String[]{"USD", "EUR", "JPY", "BHD"}, new double[]{1.0, 0.92, 150.0, 0.3765});
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRoundHalfUpToTheTargetsMinorUnits() throws IOException {
+        String input = "amount,currency\n0.99,USD\n2.5,JPY\n0.001,USD\n";
+
+        assertEquals("amount,currency,converted_amount,converted_currency\n"
+                + "0.99,USD,149,JPY\n2.5,JPY,3,JPY\n0.001,USD,0,JPY\n", convert(input, JPY));
+        assertEquals("amount,currency,converted_amount,converted_currency\n"
+                + "1.00,USD,0.377,BHD\n1.005,USD,0.380,BHD\n", convert("amount,currency\n1.00,USD\n1.005,USD\n", BHD));
+    }
+
+    @Test
+    void shouldAcceptQuotedFieldsAndCrlfLineEndings() throws IOException {
+        String input = "\"amount\",\"currency\"\r\n\"1,000.00\",\"USD\"\r\n\" 5 \",EUR\r\n";
+
+        assertEquals("\"amount\",\"currency\",converted_amount,converted_currency\n"
+                + "\"1,000.00\",\"USD\",920.00,EUR\n\" 5 \",EUR,5.00,EUR\n", convert(input, EUR));
+    }
+
+    @Test
+    void shouldJoinRowsThatCrossChunkBoundaries() throws IOException {
+        StringBuilder input = new StringBuilder("note,amount,currency\n");
+        for (int i = 0; i < 200; i++) {
+            input.append("row ").append(i).append(',').append(i).append(".25,").append(i % 2 == 0 ? "USD" : "JPY")
+                    .append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        String expected = convert(input.toString(), EUR);
+
+        for (int chunkSize : new int[]{1, 5, 17, 64}) {
+            assertEquals(expected, convert(input.toString(), EUR, chunkSize, 1, Runnable::run), "chunk " + chunkSize);
+        }
+    }
+
+    @Test
+    void shouldKeepInputOrderWithSeveralChunksInFlight() throws IOException {
+        StringBuilder input = new StringBuilder("amount,currency\n");
+        for (int i = 0; i < 3_000; i++) {
+            input.append(i).append(".00,").append(i % 3 == 0 ? "USD" : "JPY").append('\n');
+        }
+        ExchangeMoneyUseCase slow = new ExchangeMoneyUseCase((from, to) -> {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(2_000_000));
+            return SNAPSHOT.rate(from, to);
+        });
+        String output;
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Path in = write(input.toString());
+            Path out = directory.resolve("out.csv");
+            new CsvConversionPipeline(slow, REGISTRY, EUR, 64, 8, executor).run(in, out);
+            output = Files.readString(out);
+        }
+
+        String[] lines = output.split("\n");
+        assertEquals(3_001, lines.length);
+        for (int i = 0; i < 3_000; i++) {
+            assertTrue(lines[i + 1].startsWith(i + ".00,"), lines[i + 1]);
+        }
+    }
+
+    @Test
+    void shouldRejectNegativeAmountsWithoutTouchingTheOutput() throws IOException {
+        Path in = write("amount,currency\n1.00,USD\n-2.5,JPY\n");
+        Path out = directory.resolve("out.csv");
+        Files.writeString(out, "previous");
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> pipeline(EUR, 1 << 20, 2, Runnable::run).run(in, out));
+
+        assertTrue(error.getMessage().contains("negative amount"), error.getMessage());
+        assertEquals("previous", Files.readString(out));
+        try (var files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void shouldRejectMalformedAmounts() {
+        for (String amount : new String[]{"abc", "1.2.3", "\"\"", "\",5\"", "\"1.0,0\"", "\"1,,\""}) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> convert("amount,currency\n" + amount + ",USD\n", EUR), amount);
+        }
+    }
+
+    private String convert(String input, Currency target) throws IOException {
+        return convert(input, target, 1 << 20, 2, Runnable::run);
+    }
+
+    private String convert(String input, Currency target, int chunkSize, int maxInFlight,
+                           Executor executor) throws IOException {
+        Path in = write(input);
+        Path out = directory.resolve("out.csv");
+        pipeline(target, chunkSize, maxInFlight, executor).run(in, out);
+        return Files.readString(out);
+    }
+
+    private CsvConversionPipeline pipeline(Currency target, int chunkSize, int maxInFlight,
+                                           Executor executor) {
+        return new CsvConversionPipeline(new ExchangeMoneyUseCase(SNAPSHOT::rate), REGISTRY, target,
+                chunkSize, maxInFlight, executor);
+    }
+
+    private Path write(String content) throws IOException {
+        Path in = directory.resolve("in.csv");
+        Files.writeString(in, content);
+        return in;
+    }
+}
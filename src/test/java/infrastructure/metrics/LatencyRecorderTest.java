@@ -0,0 +1,62 @@
+package infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyRecorderTest {
+
+    @Test
+    void shouldMapEveryValueIntoABucketWhoseBoundCoversIt() {
+        assertEquals(0, LatencyRecorder.index(0));
+        assertEquals(31, LatencyRecorder.index(31));
+        assertEquals(32, LatencyRecorder.index(32));
+        for (int i = 1; i < 1_500; i++) {
+            long lower = LatencyRecorder.upperBound(i - 1) + 1;
+            assertEquals(i, LatencyRecorder.index(lower), "first value of bucket " + i);
+            assertEquals(i, LatencyRecorder.index(LatencyRecorder.upperBound(i)), "last value of bucket " + i);
+        }
+        Random random = new Random(13);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(Long.MAX_VALUE >>> random.nextInt(63));
+            long bound = LatencyRecorder.upperBound(LatencyRecorder.index(value));
+            assertTrue(bound >= value && bound - value <= value / 32, value + " -> " + bound);
+        }
+    }
+
+    @Test
+    void shouldReportPercentilesWithinOneSubBucket() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            recorder.record(micros * 1_000);
+        }
+
+        assertEquals(10_000, recorder.count());
+        assertEquals(5_000_500.0, recorder.mean());
+        assertEquals(10_000_000, recorder.max());
+        assertWithin(5_000_000, recorder.percentile(50));
+        assertWithin(9_900_000, recorder.percentile(99));
+        assertEquals(10_000_000, recorder.percentile(100));
+    }
+
+    @Test
+    void shouldTreatNegativeSamplesAsZeroAndReportZeroWhenEmpty() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        assertEquals(0, recorder.percentile(99));
+        assertEquals(0.0, recorder.mean());
+
+        recorder.record(-5);
+        recorder.record(7);
+
+        assertEquals(0, recorder.percentile(50));
+        assertEquals(7, recorder.percentile(99));
+        assertEquals(7, recorder.max());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 32, expected + " vs " + actual);
+    }
+}
@@ -0,0 +1,27 @@
+package infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MetricsTest {
+
+    @Test
+    void shouldRenderSortedUnderscoredNamesForCountersGaugesAndRecorders() {
+        Metrics metrics = new Metrics();
+        metrics.counter("rates.errors").add(3);
+        metrics.gauge("cache.hits", () -> 42);
+        metrics.recorder("rates").record(100);
+
+        assertEquals("""
+                cache_hits 42
+                rates_count 1
+                rates_errors 3
+                rates_max_ns 100
+                rates_mean_ns 100.0
+                rates_p50_ns 100
+                rates_p999_ns 100
+                rates_p99_ns 100
+                """, metrics.render());
+    }
+}
@@ -0,0 +1,168 @@
+package infrastructure.persistence;
+
+import application.port.CurrencyRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentRateStoreTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicReference<RateSnapshot> upstream = new AtomicReference<>();
+
+    private final AtomicReference<List<Currency>> upstreamCurrencies = new AtomicReference<>(List.of(USD));
+
+    private final CurrencyRepository currencySource = new CurrencyRepository() {
+        @Override
+        public List<Currency> findAll() {
+            List<Currency> currencies = upstreamCurrencies.get();
+            if (currencies == null) {
+                throw new ExchangeRateException("offline");
+            }
+            return currencies;
+        }
+
+        @Override
+        public Optional<Currency> findByCode(String code) {
+            return Optional.of(USD);
+        }
+    };
+
+    private PersistentRateStore store() {
+        return new PersistentRateStore(base -> {
+            fetches.incrementAndGet();
+            RateSnapshot snapshot = upstream.get();
+            if (snapshot == null) {
+                throw new ExchangeRateException("offline");
+            }
+            return snapshot;
+        }, currencySource, directory);
+    }
+
+    @Test
+    void shouldServeAStoredSnapshotWhileItIsCurrent() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        upstream.set(snapshot(now.minus(Duration.ofHours(1)), now.plus(Duration.ofHours(1)), 0.9));
+        store().getSnapshot(USD);
+
+        RateSnapshot fromDisk = store().getSnapshot(USD);
+
+        assertEquals(1, fetches.get());
+        assertEquals(upstream.get().updatedAt(), fromDisk.updatedAt());
+        assertEquals(upstream.get().nextUpdateAt(), fromDisk.nextUpdateAt());
+    }
+
+    @Test
+    void shouldGoUpstreamOnceTheStoredSnapshotIsDue() {
+        Instant now = Instant.now();
+        upstream.set(snapshot(now.minus(Duration.ofHours(2)), now.minusSeconds(1), 0.9));
+        store().getSnapshot(USD);
+        upstream.set(snapshot(now, now.plus(Duration.ofHours(1)), 0.8));
+
+        RateSnapshot refreshed = store().getSnapshot(USD);
+
+        assertEquals(2, fetches.get());
+        assertEquals(0.8, refreshed.rate(1));
+        assertEquals(0.8, store().getSnapshot(USD).rate(1));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void shouldFallBackToAnExpiredSnapshotWhenUpstreamFails() {
+        Instant now = Instant.now();
+        upstream.set(snapshot(now.minus(Duration.ofHours(2)), now.minusSeconds(1), 0.9));
+        store().getSnapshot(USD);
+        upstream.set(null);
+
+        assertEquals(0.9, store().getSnapshot(USD).rate(1));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void shouldKeepTheCurrentSnapshotInMemory() throws Exception {
+        Instant now = Instant.now();
+        upstream.set(snapshot(now, now.plus(Duration.ofHours(1)), 0.9));
+        PersistentRateStore store = store();
+        store.getSnapshot(USD);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        assertEquals(0.9, store.getSnapshot(USD).rate(1));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void shouldDeleteDailyFilesOlderThanTheRetentionWindow() throws Exception {
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        Path expired = directory.resolve("rates-EUR-" + today.minusDays(40) + ".bin");
+        Path recent = directory.resolve("rates-USD-" + today.minusDays(10) + ".bin");
+        Path unrelated = directory.resolve("notes.txt");
+        SnapshotFiles.writeRates(expired, snapshot(now.minus(Duration.ofDays(40)), now.minus(Duration.ofDays(39)), 0.7));
+        SnapshotFiles.writeRates(recent, snapshot(now.minus(Duration.ofDays(10)), now.minus(Duration.ofDays(9)), 0.8));
+        Files.writeString(unrelated, "keep");
+        upstream.set(snapshot(now, now.plus(Duration.ofHours(1)), 0.9));
+
+        store().getSnapshot(USD);
+
+        assertFalse(Files.exists(expired));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(unrelated));
+        assertTrue(Files.exists(directory.resolve("rates-USD-" + today + ".bin")));
+    }
+
+    @Test
+    void shouldRefreshAFreshlyStoredCurrencyListFromUpstream() throws Exception {
+        Path file = directory.resolve("currencies.bin");
+        SnapshotFiles.writeCurrencies(file, List.of(USD));
+        Currency eur = new Currency("EUR", "Euro");
+        upstreamCurrencies.set(List.of(USD, eur));
+
+        assertEquals(List.of(USD, eur), store().findAll());
+        assertEquals(List.of(USD, eur), SnapshotFiles.readCurrencies(file));
+    }
+
+    @Test
+    void shouldFallBackToTheStoredCurrencyListWhenUpstreamFails() throws Exception {
+        SnapshotFiles.writeCurrencies(directory.resolve("currencies.bin"), List.of(USD));
+        upstreamCurrencies.set(null);
+
+        assertEquals(List.of(USD), store().findAll());
+    }
+
+    @Test
+    void shouldFailWhenNothingIsStoredAndUpstreamFails() {
+        assertThrows(ExchangeRateException.class, () -> store().getSnapshot(USD));
+    }
+
+    private static RateSnapshot snapshot(Instant updatedAt, Instant nextUpdateAt, double eur) {
+        return new RateSnapshot(updatedAt, nextUpdateAt, "USD", new String[]{"USD", "EUR"}, new double[]{1.0, eur});
+    }
+}
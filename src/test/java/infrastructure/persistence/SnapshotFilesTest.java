@@ -0,0 +1,80 @@
+package infrastructure.persistence;
+
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotFilesTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRoundTripRatesAndCurrencies() throws IOException {
+        Path rates = directory.resolve("rates.bin");
+        Path currencies = directory.resolve("currencies.bin");
+        RateSnapshot snapshot = new RateSnapshot(Instant.parse("2026-10-17T00:00:01Z"),
+                Instant.parse("2026-10-18T00:35:01Z"), "USD", new String[]{"USD", "EUR"}, new double[]{1.0, 0.92});
+
+        SnapshotFiles.writeRates(rates, snapshot);
+        SnapshotFiles.writeCurrencies(currencies, List.of(new Currency("EUR", "Euro")));
+
+        RateSnapshot read = SnapshotFiles.readRates(rates);
+        assertEquals(snapshot.updatedAt(), read.updatedAt());
+        assertEquals(snapshot.nextUpdateAt(), read.nextUpdateAt());
+        assertArrayEquals(new double[]{1.0, 0.92}, new double[]{read.rate(0), read.rate(1)});
+        assertEquals("Euro", SnapshotFiles.readCurrencies(currencies).get(0).name());
+    }
+
+    @Test
+    void shouldRejectCountsThatOverflowOrExceedTheFile() throws IOException {
+        Path rates = directory.resolve("rates.bin");
+        SnapshotFiles.writeRates(rates, new RateSnapshot(LocalDate.of(2026, 10, 17), "USD",
+                new String[]{"USD"}, new double[]{1.0}));
+
+        patchInt(rates, 28, 0x0AAAAAAB);
+        assertThrows(IOException.class, () -> SnapshotFiles.readRates(rates));
+        patchInt(rates, 28, -1);
+        assertThrows(IOException.class, () -> SnapshotFiles.readRates(rates));
+
+        Path currencies = directory.resolve("currencies.bin");
+        SnapshotFiles.writeCurrencies(currencies, List.of(new Currency("EUR", "Euro")));
+        patchInt(currencies, 8, 0x04000001);
+        assertThrows(IOException.class, () -> SnapshotFiles.readCurrencies(currencies));
+    }
+
+    @Test
+    void shouldReportTruncatedHeadersAndInvalidRecordsAsIOException() throws IOException {
+        Path rates = directory.resolve("rates.bin");
+        SnapshotFiles.writeRates(rates, new RateSnapshot(LocalDate.of(2026, 10, 17), "USD",
+                new String[]{"USD", "EUR"}, new double[]{1.0, 0.92}));
+        byte[] bytes = Files.readAllBytes(rates);
+
+        Files.write(rates, Arrays.copyOf(bytes, 10));
+        assertThrows(IOException.class, () -> SnapshotFiles.readRates(rates));
+
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putDouble(SnapshotFiles.RATES_HEADER + 4, -1.0);
+        Files.write(rates, bytes);
+        assertThrows(IOException.class, () -> SnapshotFiles.readRates(rates));
+    }
+
+    private static void patchInt(Path file, int offset, int value) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(offset, value);
+        Files.write(file, bytes);
+    }
+}
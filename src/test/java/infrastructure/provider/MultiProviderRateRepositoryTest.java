@@ -0,0 +1,115 @@
+package infrastructure.provider;
+
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import infrastructure.metrics.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiProviderRateRepositoryTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final MultiProviderRateRepository.Hedging HEDGE = new MultiProviderRateRepository.Hedging(
+            Duration.ofMillis(20), Duration.ofMillis(5), 95, 1000);
+
+    private final Metrics metrics = new Metrics();
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldFailOverInConfiguredOrderAndStopAtTheFirstSuccess() {
+        MultiProviderRateRepository repository = new MultiProviderRateRepository(List.of(
+                failing("first"), succeeding("second", 0.9), succeeding("third", 0.8)),
+                MultiProviderRateRepository.Hedging.DISABLED, metrics);
+
+        assertEquals(0.9, repository.getSnapshot(USD).rate(1));
+        assertEquals(List.of("first", "second"), calls);
+    }
+
+    @Test
+    void shouldReportEveryFailureWhenAllProvidersFail() {
+        MultiProviderRateRepository repository = new MultiProviderRateRepository(List.of(
+                failing("first"), RateProvider.unavailable("second", "No API key")),
+                MultiProviderRateRepository.Hedging.DISABLED, metrics);
+
+        ExchangeRateException failure = assertThrows(ExchangeRateException.class, () -> repository.getSnapshot(USD));
+
+        assertEquals("All rate providers failed", failure.getMessage());
+        assertEquals(1, failure.getSuppressed().length);
+    }
+
+    @Test
+    void shouldHedgeASlowProviderCancelItAndRecordItsLatency() throws InterruptedException {
+        CompletableFuture<RateSnapshot> stalled = new CompletableFuture<>();
+        MultiProviderRateRepository repository = new MultiProviderRateRepository(List.of(
+                provider("slow", base -> stalled), succeeding("fast", 0.8)), HEDGE, metrics);
+
+        assertEquals(0.8, repository.getSnapshot(USD).rate(1));
+
+        assertEquals(List.of("slow", "fast"), calls);
+        // Losers are cancelled by the thread that completed the result, possibly after join returns.
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (metrics.recorder("provider.slow.latency").count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(stalled.isCancelled());
+        assertEquals(1, metrics.recorder("provider.slow.latency").count());
+        assertTrue(metrics.recorder("provider.slow.latency").max() >= Duration.ofMillis(20).toNanos());
+        assertEquals(1, metrics.recorder("provider.fast.latency").count());
+    }
+
+    @Test
+    void shouldNotHedgeWhenTheFirstProviderAnswersInTime() {
+        MultiProviderRateRepository repository = new MultiProviderRateRepository(List.of(
+                succeeding("first", 0.9), succeeding("second", 0.8)), HEDGE, metrics);
+
+        assertEquals(0.9, repository.getSnapshot(USD).rate(1));
+        assertEquals(List.of("first"), calls);
+    }
+
+    @Test
+    void shouldFindCurrenciesIgnoringCase() {
+        MultiProviderRateRepository repository = new MultiProviderRateRepository(List.of(
+                succeeding("only", 0.9)), MultiProviderRateRepository.Hedging.DISABLED, metrics);
+
+        assertEquals(EUR, repository.findByCode("eur").orElseThrow());
+    }
+
+    private RateProvider succeeding(String name, double eurRate) {
+        return provider(name, base -> CompletableFuture.completedFuture(new RateSnapshot(
+                LocalDate.of(2026, 10, 17), "USD", new String[]{"USD", "EUR"}, new double[]{1.0, eurRate})));
+    }
+
+    private RateProvider failing(String name) {
+        return provider(name, base -> CompletableFuture.failedFuture(new ExchangeRateException(name + " is down")));
+    }
+
+    private RateProvider provider(String name, Function<Currency, CompletableFuture<RateSnapshot>> snapshots) {
+        return new RateProvider() {
+            @Override
+            public String name() { return name; }
+
+            @Override
+            public CompletableFuture<RateSnapshot> fetchSnapshot(Currency base) {
+                calls.add(name);
+                return snapshots.apply(base);
+            }
+
+            @Override
+            public CompletableFuture<List<Currency>> fetchCurrencies() {
+                calls.add(name);
+                return CompletableFuture.completedFuture(List.of(USD, EUR));
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package infrastructure.repository;
+
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoalescingExchangeRateRepositoryTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency GBP = new Currency("GBP", "Pound Sterling");
+    private static final RateSnapshot SNAPSHOT = new RateSnapshot(LocalDate.now(), "USD",
+            new String[]{"USD", "EUR", "GBP"}, new double[]{1, 0.8, 0.5});
+
+    @Test
+    void shouldServeConcurrentLookupsWithOneUpstreamCall() {
+        AtomicInteger calls = new AtomicInteger();
+        RateSnapshotRepository upstream = base -> {
+            calls.incrementAndGet();
+            return SNAPSHOT;
+        };
+
+        try (CoalescingExchangeRateRepository repository =
+                     new CoalescingExchangeRateRepository(upstream, Duration.ofMillis(50))) {
+            CompletableFuture<ExchangeRate> eur = repository.getExchangeRateAsync(USD, EUR);
+            CompletableFuture<ExchangeRate> gbp = repository.getExchangeRateAsync(USD, GBP);
+
+            assertEquals(0.8, eur.join().rate(), 1e-12);
+            assertEquals(0.5, gbp.join().rate(), 1e-12);
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    void shouldFailEveryWaiterWhenUpstreamThrowsAnError() {
+        RateSnapshotRepository broken = base -> {
+            throw new NoClassDefFoundError("decoder");
+        };
+
+        try (CoalescingExchangeRateRepository repository =
+                     new CoalescingExchangeRateRepository(broken, Duration.ofMillis(10))) {
+            CompletableFuture<ExchangeRate> eur = repository.getExchangeRateAsync(USD, EUR);
+            CompletableFuture<ExchangeRate> gbp = repository.getExchangeRateAsync(USD, GBP);
+
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> eur.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(NoClassDefFoundError.class, failure.getCause());
+            assertThrows(ExecutionException.class, () -> gbp.get(1, TimeUnit.SECONDS));
+            assertThrows(NoClassDefFoundError.class, () -> repository.getExchangeRate(USD, EUR));
+        }
+    }
+
+    @Test
+    void shouldFailPendingLookupsOnClose() throws Exception {
+        CoalescingExchangeRateRepository repository =
+                new CoalescingExchangeRateRepository(base -> SNAPSHOT, Duration.ofSeconds(30));
+        CompletableFuture<ExchangeRate> pending = repository.getExchangeRateAsync(USD, EUR);
+
+        repository.close();
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> pending.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ExchangeRateException.class, failure.getCause());
+    }
+
+    @Test
+    void shouldRejectLookupsAfterClose() {
+        CoalescingExchangeRateRepository repository =
+                new CoalescingExchangeRateRepository(base -> SNAPSHOT, Duration.ofMillis(10));
+        repository.close();
+
+        assertThrows(ExchangeRateException.class, () -> repository.getExchangeRate(USD, EUR));
+    }
+}
@@ -0,0 +1,159 @@
+package infrastructure.repository;
+
+import application.port.RateSnapshotRepository;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduledRateRefresherTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency XAU = new Currency("XAU", "Gold");
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private final RateSnapshotRepository source = base -> {
+        fetches.incrementAndGet();
+        return new RateSnapshot(LocalDate.now(), base.code(), new String[]{base.code(), "USD", "EUR"},
+                new double[]{1.0, 1.0, 0.8}).rebase(base.code());
+    };
+
+    private ScheduledRateRefresher refresher() {
+        return new ScheduledRateRefresher(source, USD, Duration.ofHours(1), 0,
+                Duration.ofSeconds(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldRebasePublishedSnapshotForOtherBases() {
+        try (ScheduledRateRefresher refresher = refresher()) {
+            RateSnapshot eur = refresher.getSnapshot(EUR);
+            refresher.getSnapshot(EUR);
+
+            assertEquals("EUR", eur.baseCode());
+            assertEquals(1.25, eur.rate(eur.ordinalOf("USD")), 1e-12);
+            assertEquals(1, fetches.get());
+        }
+    }
+
+    @Test
+    void shouldAskTheSourceForBasesMissingFromTheSnapshot() {
+        try (ScheduledRateRefresher refresher = refresher()) {
+            refresher.getSnapshot(USD);
+            RateSnapshot gold = refresher.getSnapshot(XAU);
+
+            assertEquals("XAU", gold.baseCode());
+            assertEquals(2, fetches.get());
+        }
+    }
+
+    @Test
+    void shouldShareTheInitialLoadBetweenStartAndEarlyReaders() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RateSnapshotRepository slow = base -> {
+            fetches.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return snapshot(Instant.now());
+        };
+        try (ScheduledRateRefresher refresher = new ScheduledRateRefresher(slow, USD, Duration.ofHours(1), 0,
+                Duration.ofSeconds(1), Duration.ofMinutes(1));
+             ExecutorService readers = Executors.newFixedThreadPool(8)) {
+            refresher.start();
+            List<Future<RateSnapshot>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(readers.submit(refresher::snapshot));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            RateSnapshot first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<RateSnapshot> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, fetches.get());
+        }
+    }
+
+    @Test
+    void shouldNotReplaceANewerSnapshotWithAnOlderOne() throws Exception {
+        Instant newest = Instant.now();
+        RateSnapshotRepository regressing = base -> fetches.getAndIncrement() == 0
+                ? snapshot(newest)
+                : snapshot(newest.minusSeconds(3600));
+        try (ScheduledRateRefresher refresher = new ScheduledRateRefresher(regressing, USD, Duration.ofMillis(5), 0,
+                Duration.ofMillis(5), Duration.ofMillis(5))) {
+            refresher.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (fetches.get() < 4 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertTrue(fetches.get() >= 4);
+            assertEquals(newest, refresher.snapshot().updatedAt());
+        }
+    }
+
+    @Test
+    void shouldRefreshAtTheProvidersNextUpdateRatherThanTheInterval() throws Exception {
+        RateSnapshotRepository announcing = base -> {
+            fetches.incrementAndGet();
+            Instant now = Instant.now();
+            return new RateSnapshot(now, now.plusMillis(20), "USD", new String[]{"USD", "EUR"}, new double[]{1.0, 0.8});
+        };
+        try (ScheduledRateRefresher refresher = new ScheduledRateRefresher(announcing, USD, Duration.ofHours(1), 0.1,
+                Duration.ofSeconds(1), Duration.ofMinutes(1))) {
+            refresher.start();
+
+            assertTrue(awaitFetches(3), "fetches " + fetches.get());
+        }
+    }
+
+    @Test
+    void shouldKeepRefreshingAfterAnError() throws Exception {
+        RateSnapshotRepository failing = base -> {
+            if (fetches.incrementAndGet() == 2) {
+                throw new StackOverflowError("decoder bug");
+            }
+            return snapshot(Instant.now());
+        };
+        try (ScheduledRateRefresher refresher = new ScheduledRateRefresher(failing, USD, Duration.ofMillis(5), 0,
+                Duration.ofMillis(5), Duration.ofMillis(5))) {
+            refresher.start();
+
+            assertTrue(awaitFetches(4), "fetches " + fetches.get());
+            assertEquals(0, refresher.consecutiveFailures());
+        }
+    }
+
+    private boolean awaitFetches(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (fetches.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return fetches.get() >= expected;
+    }
+
+    private static RateSnapshot snapshot(Instant updatedAt) {
+        return new RateSnapshot(updatedAt, updatedAt.plusSeconds(3600), "USD",
+                new String[]{"USD", "EUR"}, new double[]{1.0, 0.8});
+    }
+}
@@ -0,0 +1,95 @@
+package infrastructure.repository;
+
+import com.sun.net.httpserver.HttpServer;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.ExchangeRate;
+import infrastructure.api.ExchangeRateApiClient;
+import infrastructure.api.HttpTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotExchangeRateRepositoryTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency GBP = new Currency("GBP", "Pound Sterling");
+    private static final Currency JPY = new Currency("JPY", "Japanese Yen");
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<String> body = new AtomicReference<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        long now = Instant.now().getEpochSecond();
+        body.set("{\"result\":\"success\",\"time_last_update_unix\":" + (now - 60)
+                + ",\"time_next_update_unix\":" + (now + 3600)
+                + ",\"base_code\":\"USD\",\"conversion_rates\":{\"USD\":1,\"EUR\":0.8,\"GBP\":0.5,\"JPY\":150}}");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private SnapshotExchangeRateRepository repository() {
+        HttpTransport transport = new HttpTransport(Duration.ofSeconds(2), Duration.ofSeconds(2));
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/key/";
+        return new SnapshotExchangeRateRepository(new ExchangeRateApiClient(transport, url), USD);
+    }
+
+    @Test
+    void shouldServeEveryPairFromOneBaseTable() {
+        SnapshotExchangeRateRepository repository = repository();
+
+        ExchangeRate usdEur = repository.getExchangeRate(USD, EUR);
+        ExchangeRate eurGbp = repository.getExchangeRate(EUR, GBP);
+        ExchangeRate gbpJpy = repository.getExchangeRate(GBP, JPY);
+        ExchangeRate jpyUsd = repository.getExchangeRate(JPY, USD);
+
+        assertEquals(0.8, usdEur.rate(), 1e-12);
+        assertEquals(0.625, eurGbp.rate(), 1e-12);
+        assertEquals(300, gbpJpy.rate(), 1e-9);
+        assertEquals(1 / 150.0, jpyUsd.rate(), 1e-12);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void shouldRejectCurrenciesMissingFromTheTable() {
+        SnapshotExchangeRateRepository repository = repository();
+
+        assertThrows(ExchangeRateException.class,
+                () -> repository.getExchangeRate(USD, new Currency("XAU", "Gold")));
+    }
+
+    @Test
+    void shouldReportApiErrors() {
+        body.set("{\"result\":\"error\",\"error-type\":\"invalid-key\"}");
+        SnapshotExchangeRateRepository repository = repository();
+
+        assertThrows(ExchangeRateException.class, () -> repository.getExchangeRate(USD, EUR));
+    }
+}
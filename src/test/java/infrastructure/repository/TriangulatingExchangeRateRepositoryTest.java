@@ -0,0 +1,97 @@
+package infrastructure.repository;
+
+import application.port.RateSnapshotRepository;
+import domain.exception.ExchangeRateException;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TriangulatingExchangeRateRepositoryTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency GBP = new Currency("GBP", "Pound Sterling");
+    private static final Currency ISK = new Currency("ISK", "Icelandic Krona");
+
+    private static final RateSnapshot USD_TABLE = new RateSnapshot(LocalDate.of(2026, 10, 17), "USD",
+            new String[]{"USD", "EUR", "GBP", "JPY", "CHF"}, new double[]{1.0, 0.92, 0.79, 151.2, 0.88});
+    private static final RateSnapshot EUR_TABLE = new RateSnapshot(LocalDate.of(2026, 10, 17), "EUR",
+            new String[]{"EUR", "USD", "ISK"}, new double[]{1.0, 1.0 / 0.92, 149.3});
+
+    @Test
+    void shouldMatchDirectQuotesFromTheBaseTable() {
+        RateSnapshotRepository source = base -> USD_TABLE.rebase(base.code());
+        TriangulatingExchangeRateRepository repository = new TriangulatingExchangeRateRepository(source, List.of(USD));
+
+        for (int from = 0; from < USD_TABLE.size(); from++) {
+            for (int to = 0; to < USD_TABLE.size(); to++) {
+                Currency fromCurrency = new Currency(USD_TABLE.code(from), USD_TABLE.code(from));
+                Currency toCurrency = new Currency(USD_TABLE.code(to), USD_TABLE.code(to));
+                double direct = USD_TABLE.crossRate(from, to);
+                assertEquals(direct, repository.getExchangeRate(fromCurrency, toCurrency).rate(),
+                        2 * Math.ulp(direct));
+            }
+        }
+    }
+
+    @Test
+    void shouldTriangulateRandomTablesWithinRoundingOfTheDirectCrossRate() {
+        Random random = new Random(3);
+        String[] codes = {"USD", "EUR", "GBP", "JPY", "CHF", "CAD", "AUD", "SEK"};
+        for (int round = 0; round < 200; round++) {
+            double[] rates = new double[codes.length];
+            rates[0] = 1.0;
+            for (int i = 1; i < codes.length; i++) {
+                rates[i] = Math.exp(random.nextGaussian() * 3);
+            }
+            RateSnapshot table = new RateSnapshot(LocalDate.of(2026, 10, 17), "USD", codes, rates);
+            TriangulatingExchangeRateRepository repository = new TriangulatingExchangeRateRepository(
+                    base -> table, List.of(USD));
+
+            int from = random.nextInt(codes.length);
+            int to = random.nextInt(codes.length);
+            double direct = table.crossRate(from, to);
+            double triangulated = repository.getExchangeRate(
+                    new Currency(codes[from], codes[from]), new Currency(codes[to], codes[to])).rate();
+            assertEquals(direct, triangulated, 4 * Math.ulp(direct));
+        }
+    }
+
+    @Test
+    void shouldReachCurrenciesQuotedOnlyByAnotherPivot() {
+        Map<String, RateSnapshot> tables = Map.of("USD", USD_TABLE, "EUR", EUR_TABLE);
+        TriangulatingExchangeRateRepository repository = new TriangulatingExchangeRateRepository(
+                base -> tables.get(base.code()), List.of(USD, EUR));
+
+        double usdToIsk = repository.getExchangeRate(USD, ISK).rate();
+        double gbpToIsk = repository.getExchangeRate(GBP, ISK).rate();
+
+        assertEquals(0.92 * 149.3, usdToIsk, 1e-9);
+        assertEquals(0.92 * 149.3 / 0.79, gbpToIsk, 1e-9);
+        assertEquals(2, repository.matrix().hops(repository.matrix().indexOf("ISK")));
+    }
+
+    @Test
+    void shouldToleratePivotFailuresUntilAllFail() {
+        TriangulatingExchangeRateRepository partial = new TriangulatingExchangeRateRepository(base -> {
+            if (base.equals(EUR)) {
+                throw new ExchangeRateException("EUR table unavailable");
+            }
+            return USD_TABLE;
+        }, List.of(USD, EUR));
+        assertEquals(0.92, partial.getExchangeRate(USD, EUR).rate(), 1e-12);
+        assertThrows(ExchangeRateException.class, () -> partial.getExchangeRate(USD, ISK));
+
+        TriangulatingExchangeRateRepository none = new TriangulatingExchangeRateRepository(base -> {
+            throw new ExchangeRateException("offline");
+        }, List.of(USD, EUR));
+        assertThrows(ExchangeRateException.class, () -> none.getExchangeRate(USD, EUR));
+    }
+}
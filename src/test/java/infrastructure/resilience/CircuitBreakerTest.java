@@ -0,0 +1,73 @@
+package infrastructure.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofSeconds(10), now::get);
+
+    @Test
+    void shouldOpenAfterThresholdAndAllowOneProbeOnceTheOpenPeriodEnds() {
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.allowRequest());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    void shouldCloseOnProbeSuccessAndReopenOnProbeFailure() {
+        open();
+        assertTrue(breaker.allowRequest());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.allowRequest());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.allowRequest());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void shouldHandBackASkippedProbeAndCloseOnARejectedOne() {
+        open();
+        assertTrue(breaker.allowRequest());
+        breaker.onSkipped();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertTrue(breaker.allowRequest());
+
+        breaker.onRejected();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void shouldNotResetFailureCountOnRejectionWhileClosed() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onRejected();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+    }
+}
@@ -0,0 +1,93 @@
+package infrastructure.resilience;
+
+import domain.exception.ExchangeRateException;
+import infrastructure.api.HttpStatusException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResilienceTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(10), now::get);
+
+    private Resilience resilience(TokenBucket bucket) {
+        return new Resilience(new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(2)),
+                breaker, bucket, Duration.ZERO);
+    }
+
+    private Resilience resilience() {
+        return resilience(new TokenBucket(100, 1000));
+    }
+
+    @Test
+    void shouldRetryTransientFailuresAndOpenTheBreaker() {
+        Supplier<String> failing = () -> {
+            calls.incrementAndGet();
+            throw new ExchangeRateException("reset", new IOException("connection reset"));
+        };
+
+        assertThrows(ExchangeRateException.class, () -> resilience().call(failing, () -> null));
+        assertEquals(2, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals("fallback", resilience().call(failing, () -> "fallback"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldSettleAProbeThatFailsWithAnUnexpectedException() {
+        halfOpenReady();
+
+        assertThrows(IllegalStateException.class, () -> resilience().call(() -> {
+            throw new IllegalStateException("bug");
+        }, () -> null));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals("ok", resilience().call(() -> "ok", () -> null));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void shouldCloseWhenTheProbeIsRejectedByTheProvider() {
+        halfOpenReady();
+
+        ExchangeRateException notFound = new ExchangeRateException("unknown code",
+                new HttpStatusException(404));
+        assertThrows(ExchangeRateException.class, () -> resilience().call(() -> {
+            calls.incrementAndGet();
+            throw notFound;
+        }, () -> null));
+
+        assertEquals(1, calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void shouldReleaseAProbeThatIsThrottled() {
+        halfOpenReady();
+        TokenBucket empty = new TokenBucket(1, 0.001, now::get);
+        empty.tryAcquire();
+
+        ExchangeRateException e = assertThrows(ExchangeRateException.class,
+                () -> resilience(empty).call(() -> "never", () -> null));
+
+        assertEquals("Exchange rate provider quota exhausted", e.getMessage());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals("ok", resilience().call(() -> "ok", () -> null));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    private void halfOpenReady() {
+        breaker.onFailure();
+        breaker.onFailure();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+    }
+}
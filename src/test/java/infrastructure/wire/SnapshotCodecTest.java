@@ -0,0 +1,41 @@
+package infrastructure.wire;
+
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SnapshotCodecTest {
+    @Test
+    void shouldRoundTripRatesAndCurrencyNames() {
+        RateSnapshot snapshot = new RateSnapshot(Instant.parse("2026-10-17T00:00:01Z"),
+                Instant.parse("2026-10-18T00:35:01Z"), "USD", new String[]{"USD", "EUR"}, new double[]{1.0, 0.92});
+
+        SnapshotCodec.Payload decoded = SnapshotCodec.decode(ByteBuffer.wrap(
+                SnapshotCodec.encode(snapshot, List.of(new Currency("EUR", "Euro")))));
+
+        assertEquals(snapshot.updatedAt(), decoded.snapshot().updatedAt());
+        assertEquals(snapshot.nextUpdateAt(), decoded.snapshot().nextUpdateAt());
+        assertEquals("USD", decoded.snapshot().baseCode());
+        assertEquals(0.92, decoded.snapshot().rate(1));
+        assertEquals("Euro", decoded.currencies().get(0).name());
+    }
+
+    @Test
+    void shouldKeepASubSecondValidityDecodable() {
+        RateSnapshot snapshot = new RateSnapshot(Instant.parse("2026-10-17T10:00:00.200Z"),
+                Instant.parse("2026-10-17T10:00:00.700Z"), "USD", new String[]{"USD"}, new double[]{1.0});
+
+        RateSnapshot decoded = SnapshotCodec.decode(ByteBuffer.wrap(SnapshotCodec.encode(snapshot, List.of())))
+                .snapshot();
+
+        assertEquals(Instant.parse("2026-10-17T10:00:00Z"), decoded.updatedAt());
+        assertEquals(Instant.parse("2026-10-17T10:00:01Z"), decoded.nextUpdateAt());
+    }
+}
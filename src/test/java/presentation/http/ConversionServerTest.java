@@ -0,0 +1,117 @@
+package presentation.http;
+
+import application.port.CurrencyRepository;
+import application.port.RateSnapshotRepository;
+import application.usecase.ExchangeMoneyUseCase;
+import application.usecase.FanOutConversionUseCase;
+import domain.model.Currency;
+import domain.model.RateSnapshot;
+import domain.service.CurrencyService;
+import infrastructure.history.RateHistory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConversionServerTest {
+    private static final Currency USD = new Currency("USD", "United States Dollar");
+    private static final Currency EUR = new Currency("EUR", "Euro");
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ConversionServer server;
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void shouldConvertAtTheRateInEffectOnTheRequestedDate() throws Exception {
+        RateHistory history = RateHistory.builder()
+                .add("USD", "EUR", LocalDate.of(2024, 3, 14), 0.9)
+                .add("USD", "EUR", LocalDate.of(2024, 3, 18), 0.95)
+                .build();
+        start(history);
+
+        HttpResponse<String> asOf = get("/convert?from=USD&to=EUR&amount=100&date=2024-03-16");
+        HttpResponse<String> inverse = get("/convert?from=EUR&to=USD&amount=90&date=2024-03-16");
+        HttpResponse<String> latest = get("/convert?from=USD&to=EUR&amount=100");
+
+        assertEquals(200, asOf.statusCode());
+        assertTrue(asOf.body().contains("\"date\":\"2024-03-14\""), asOf.body());
+        assertTrue(asOf.body().contains("\"result\":90.00"), asOf.body());
+        assertTrue(inverse.body().contains("\"result\":100.00"), inverse.body());
+        assertTrue(latest.body().contains("\"result\":80.00"), latest.body());
+    }
+
+    @Test
+    void shouldRejectDatesWithoutHistoryOrBeforeTheFirstRate() throws Exception {
+        start(null);
+        assertEquals(400, get("/convert?from=USD&to=EUR&amount=1&date=2024-03-16").statusCode());
+        server.close();
+
+        start(RateHistory.builder().add("USD", "EUR", LocalDate.of(2024, 3, 14), 0.9).build());
+        assertEquals(400, get("/convert?from=USD&to=EUR&amount=1&date=2024-13-01").statusCode());
+        assertEquals(502, get("/convert?from=USD&to=EUR&amount=1&date=2024-03-01").statusCode());
+    }
+
+    @Test
+    void shouldRejectOutOfRangeAmountsWithoutRescalingThem() throws Exception {
+        start(null);
+
+        long started = System.nanoTime();
+        HttpResponse<String> huge = get("/convert?from=USD&to=EUR&amount=1e99999999");
+        HttpResponse<String> hugeAll = get("/convert/all?from=USD&amount=1e99999999");
+        HttpResponse<String> negative = get("/convert?from=USD&to=EUR&amount=-5");
+        HttpResponse<String> tiny = get("/convert?from=USD&to=EUR&amount=1e-99999999");
+        HttpResponse<String> tinyAll = get("/convert/all?from=USD&amount=1e-99999999");
+
+        assertEquals(400, huge.statusCode());
+        assertTrue(huge.body().contains("Amount is too large"), huge.body());
+        assertEquals(400, hugeAll.statusCode());
+        assertEquals(400, negative.statusCode());
+        assertEquals(200, tiny.statusCode());
+        assertTrue(tiny.body().contains("\"result\":0.00"), tiny.body());
+        assertEquals(200, tinyAll.statusCode());
+        assertTrue(System.nanoTime() - started < 5_000_000_000L, "amount parsing must not rescale huge exponents");
+    }
+
+    private void start(RateHistory history) throws IOException {
+        RateSnapshotRepository snapshots = base -> new RateSnapshot(LocalDate.now(), "USD",
+                new String[]{"USD", "EUR"}, new double[]{1.0, 0.8}).rebase(base.code());
+        CurrencyRepository currencies = new CurrencyRepository() {
+            @Override
+            public List<Currency> findAll() {
+                return List.of(USD, EUR);
+            }
+
+            @Override
+            public Optional<Currency> findByCode(String code) {
+                return findAll().stream().filter(currency -> currency.code().equals(code)).findFirst();
+            }
+        };
+        server = new ConversionServer(
+                new ExchangeMoneyUseCase((from, to) -> snapshots.getSnapshot(USD).rate(from, to)),
+                new FanOutConversionUseCase(snapshots), new CurrencyService(currencies), snapshots,
+                history, () -> "", new InetSocketAddress("127.0.0.1", 0));
+        server.start();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        URI uri = URI.create("http://127.0.0.1:" + server.address().getPort() + path);
+        return client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}